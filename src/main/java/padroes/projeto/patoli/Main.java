@@ -1,20 +1,186 @@
 package padroes.projeto.patoli;
 
+import padroes.projeto.patoli.ai.ExpectiminimaxBot;
+import padroes.projeto.patoli.ai.TranspositionTable;
+import padroes.projeto.patoli.ai.mcts.MctsBot;
+import padroes.projeto.patoli.ai.tablebase.EndgameSolver;
+import padroes.projeto.patoli.ai.tablebase.EndgameTablebase;
 import padroes.projeto.patoli.controller.GameController;
+import padroes.projeto.patoli.model.board.Board;
+import padroes.projeto.patoli.model.board.Player;
+import padroes.projeto.patoli.model.game.CoinDice;
 import padroes.projeto.patoli.model.game.Game;
+import padroes.projeto.patoli.model.game.log.GameLogWriter;
+import padroes.projeto.patoli.model.game.log.GameReplayer;
+import padroes.projeto.patoli.server.MatchServer;
+import padroes.projeto.patoli.simulation.BatchSimulator;
+import padroes.projeto.patoli.simulation.HeadlessGameRunner;
+import padroes.projeto.patoli.simulation.MoveStrategy;
+import padroes.projeto.patoli.simulation.RandomMoveStrategy;
 import padroes.projeto.patoli.view.frame.MainFrame;
 
 import java.awt.*;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.InetSocketAddress;
+import java.nio.file.Files;
+import java.nio.file.Path;
 
 public class Main {
+    // Tabela de finais carregada automaticamente pela interface, se existir
+    private static final Path DEFAULT_TABLEBASE = Path.of("patolli-endgame.tb");
+
     public static void main(String[] args) {
+        if (args.length > 0 && args[0].equals("--simulate")) {
+            simulate(args);
+            return;
+        }
+        if (args.length > 0 && args[0].equals("--build-tablebase")) {
+            buildTablebase(args.length > 1 ? Path.of(args[1]) : DEFAULT_TABLEBASE);
+            return;
+        }
+        if (args.length > 0 && args[0].equals("--server")) {
+            serve(args.length > 1 ? Integer.parseInt(args[1]) : MatchServer.DEFAULT_PORT);
+            return;
+        }
+        if (args.length > 1 && args[0].equals("--replay")) {
+            replay(Path.of(args[1]), args.length > 2 ? Long.parseLong(args[2]) : -1);
+            return;
+        }
+        // --record <arquivo>: grava a partida da interface num log binário
+        Path record = args.length > 1 && args[0].equals("--record") ? Path.of(args[1]) : null;
         EventQueue.invokeLater(() -> {
-            Game game = new Game("Jogador Preto", "Jogador Branco");
+            long seed = System.nanoTime();
+            Game game = new Game("Jogador Preto", "Jogador Branco", new CoinDice(seed));
+            if (record != null) startRecording(record, game, seed);
             GameController controller = new GameController(game);
+            if (Files.exists(DEFAULT_TABLEBASE)) {
+                controller.setEndgameTablebase(openTablebase(DEFAULT_TABLEBASE));
+            }
             MainFrame frame = new MainFrame(controller);
             controller.setView(frame);
             frame.goFullScreen();
             frame.setVisible(true);
         });
     }
-}
\ No newline at end of file
+
+    // Modo headless: --simulate <partidas> [--seed S] [--threads T] [--black B] [--white B] [--budget ms] [--bot-threads N] [--tablebase arquivo]
+    // Bots: random | expectiminimax | mcts
+    private static void simulate(String[] args) {
+        long games = args.length > 1 ? Long.parseLong(args[1]) : 100_000;
+        long seed = System.nanoTime();
+        int threads = Runtime.getRuntime().availableProcessors();
+        String black = "random", white = "random";
+        long budget = ExpectiminimaxBot.DEFAULT_BUDGET_MILLIS;
+        int botThreads = 1;
+        EndgameTablebase tablebase = null;
+        for (int i = 2; i + 1 < args.length; i += 2) {
+            switch (args[i]) {
+                case "--seed" -> seed = Long.parseLong(args[i + 1]);
+                case "--threads" -> threads = Integer.parseInt(args[i + 1]);
+                case "--black" -> black = args[i + 1];
+                case "--white" -> white = args[i + 1];
+                case "--budget" -> budget = Long.parseLong(args[i + 1]);
+                case "--bot-threads" -> botThreads = Integer.parseInt(args[i + 1]);
+                case "--tablebase" -> tablebase = openTablebase(Path.of(args[i + 1]));
+                default -> throw new IllegalArgumentException("Opção desconhecida: " + args[i]);
+            }
+        }
+        String blackBot = black, whiteBot = white;
+        long budgetMillis = budget;
+        int searchThreads = botThreads;
+        EndgameTablebase endgames = tablebase;
+        BatchSimulator simulator = new BatchSimulator(() -> new HeadlessGameRunner(
+                createBot(blackBot, budgetMillis, searchThreads, endgames),
+                createBot(whiteBot, budgetMillis, searchThreads, endgames)), threads);
+        System.out.println("Semente: " + seed);
+        System.out.print(simulator.run(games, seed).format());
+    }
+
+    private static MoveStrategy createBot(String name, long budgetMillis, int searchThreads,
+                                          EndgameTablebase tablebase) {
+        return switch (name) {
+            case "random" -> new RandomMoveStrategy();
+            case "expectiminimax" -> {
+                ExpectiminimaxBot bot = new ExpectiminimaxBot(budgetMillis, new TranspositionTable(1 << 16));
+                bot.setTablebase(tablebase);
+                yield bot;
+            }
+            case "mcts" -> new MctsBot(budgetMillis, searchThreads);
+            default -> throw new IllegalArgumentException("Bot desconhecido: " + name);
+        };
+    }
+
+    // Modo --server [porta]: hospeda partidas para clientes remotos (protocolo em MatchProtocol)
+    private static void serve(int port) {
+        try (MatchServer server = new MatchServer(new InetSocketAddress(port))) {
+            System.out.println("Servidor de partidas na porta " + server.getPort());
+            server.run();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static void startRecording(Path file, Game game, long seed) {
+        try {
+            GameLogWriter writer = GameLogWriter.create(file, game, seed);
+            Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+                try {
+                    writer.close();
+                } catch (IOException e) {
+                    System.err.println("Falha ao gravar o log da partida: " + e.getMessage());
+                    return;
+                }
+                // Falha durante a partida: a gravação foi desligada e o log está incompleto
+                if (writer.getFailure() != null) {
+                    System.err.println("Falha ao gravar o log da partida: " + writer.getFailure().getMessage());
+                }
+            }));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    // Modo --replay <arquivo> [comandos]: reconstrói a partida gravada (inteira ou até N comandos)
+    private static void replay(Path file, long count) {
+        try {
+            GameReplayer replayer = GameReplayer.open(file);
+            long t0 = System.nanoTime();
+            Game game = count < 0 ? replayer.replay() : replayer.replay(count);
+            double ms = (System.nanoTime() - t0) / 1e6;
+            System.out.printf("%s x %s | semente %d | %d comandos reaplicados em %.2f ms%n",
+                    replayer.getBlackName(), replayer.getWhiteName(), replayer.getSeed(),
+                    count < 0 ? replayer.getRecordCount() : count, ms);
+            for (Player p : new Player[]{game.getBlack(), game.getWhite()}) {
+                System.out.printf("%s (%s): %d moedas, %d peças finalizadas%n",
+                        p.getName(), p.getColor(), p.getCoins(), p.countFinished());
+            }
+            System.out.println("Pote: " + game.getPot() + " | Vez: " + game.getCurrent().getName()
+                    + " | Última rolagem: " + game.getLastRoll());
+            if (game.isGameOver()) System.out.println(game.gameOverMessage());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    // Modo --build-tablebase [arquivo]: resolve os finais e grava a tabela
+    private static void buildTablebase(Path file) {
+        EndgameSolver solver = new EndgameSolver(new Board());
+        try {
+            long t0 = System.nanoTime();
+            solver.write(file);
+            System.out.printf("Tabela de finais gravada em %s (%d varreduras, %.1f s)%n",
+                    file, solver.getSweeps(), (System.nanoTime() - t0) / 1e9);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static EndgameTablebase openTablebase(Path file) {
+        try {
+            return EndgameTablebase.open(file, new Board());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,102 @@
+package padroes.projeto.patoli.actor;
+
+import padroes.projeto.patoli.model.game.Game;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * Ator que confina um Game: todos os comandos passam pela caixa de mensagens
+ * (MpscQueue) e são executados um de cada vez, nunca em paralelo, por alguma
+ * thread do executor. Não há locks no caminho quente: enfileirar é uma troca
+ * atômica e agendar o ator é um CAS.
+ *
+ * A cada vez que roda, o ator processa no máximo 'throughput' comandos e volta
+ * para o fim da fila do executor, o que reparte as threads entre as partidas.
+ */
+public class GameActor {
+    private static final int IDLE = 0;
+    private static final int SCHEDULED = 1;
+
+    private static final VarHandle STATE;
+
+    static {
+        try {
+            STATE = MethodHandles.lookup().findVarHandle(GameActor.class, "state", int.class);
+        } catch (ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    private final Game game;
+    private final Executor executor;
+    private final int throughput;
+    private final MpscQueue<Consumer<Game>> mailbox = new MpscQueue<>();
+    private final Runnable drain = this::drain;
+
+    private volatile int state = IDLE;
+    // Escrito só pela thread do ator
+    private long processed;
+
+    GameActor(Game game, Executor executor, int throughput) {
+        this.game = game;
+        this.executor = executor;
+        this.throughput = throughput;
+    }
+
+    /**
+     * Envia um comando (executado depois, na vez do ator). Exceções vão para o
+     * UncaughtExceptionHandler da thread e não interrompem o ator.
+     */
+    public void tell(Consumer<Game> command) {
+        mailbox.offer(command);
+        schedule();
+    }
+
+    /**
+     * Consulta/comando com resposta, executado na vez do ator.
+     */
+    public <R> CompletableFuture<R> ask(Function<Game, R> query) {
+        CompletableFuture<R> result = new CompletableFuture<>();
+        tell(game -> {
+            try {
+                result.complete(query.apply(game));
+            } catch (Throwable t) {
+                result.completeExceptionally(t);
+            }
+        });
+        return result;
+    }
+
+    // Comandos já executados (leitura aproximada fora do ator)
+    public long getProcessedCount() {
+        return processed;
+    }
+
+    private void schedule() {
+        if (state == IDLE && STATE.compareAndSet(this, IDLE, SCHEDULED)) {
+            executor.execute(drain);
+        }
+    }
+
+    private void drain() {
+        for (int i = 0; i < throughput; i++) {
+            Consumer<Game> command = mailbox.poll();
+            if (command == null) break;
+            try {
+                command.accept(game);
+            } catch (Throwable t) {
+                Thread current = Thread.currentThread();
+                current.getUncaughtExceptionHandler().uncaughtException(current, t);
+            }
+            processed++;
+        }
+        state = IDLE;
+        // Comando que chegou depois do último poll (ou ainda sendo ligado): reagendar
+        if (!mailbox.isEmpty()) schedule();
+    }
+}
@@ -0,0 +1,50 @@
+package padroes.projeto.patoli.actor;
+
+import padroes.projeto.patoli.model.game.Game;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Runtime de atores para hospedar muitas partidas: cada Game fica confinado a um
+ * GameActor, e todos os atores compartilham um pequeno pool de threads
+ * (ForkJoinPool em modo FIFO, uma thread por núcleo por padrão).
+ */
+public class GameActorSystem implements AutoCloseable {
+    // Comandos por vez antes de ceder a thread para outro ator
+    public static final int DEFAULT_THROUGHPUT = 32;
+
+    private final ForkJoinPool pool;
+    private final int throughput;
+
+    public GameActorSystem() {
+        this(Runtime.getRuntime().availableProcessors(), DEFAULT_THROUGHPUT);
+    }
+
+    public GameActorSystem(int threads, int throughput) {
+        if (throughput < 1) throw new IllegalArgumentException("throughput deve ser positivo: " + throughput);
+        this.pool = new ForkJoinPool(threads, ForkJoinPool.defaultForkJoinWorkerThreadFactory, null, true);
+        this.throughput = throughput;
+    }
+
+    /**
+     * Cria o ator dono da partida. Depois disso, o Game só deve ser acessado pelo ator.
+     */
+    public GameActor spawn(Game game) {
+        return new GameActor(game, pool, throughput);
+    }
+
+    public int getThreadCount() {
+        return pool.getParallelism();
+    }
+
+    @Override
+    public void close() {
+        pool.shutdown();
+        try {
+            pool.awaitTermination(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
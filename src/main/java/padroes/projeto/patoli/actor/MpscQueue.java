@@ -0,0 +1,67 @@
+package padroes.projeto.patoli.actor;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+
+/**
+ * Fila ilimitada multi-produtor / consumidor único, sem locks (algoritmo de Vyukov).
+ *
+ * offer: uma troca atômica da cauda + escrita do elo; poll: só o consumidor lê a cabeça.
+ * Um produtor pode estar entre a troca e o elo: nesse intervalo poll devolve null,
+ * mas isEmpty() já devolve false (o consumidor deve tentar de novo mais tarde).
+ */
+final class MpscQueue<T> {
+    private static final VarHandle TAIL;
+    private static final VarHandle NEXT;
+
+    static {
+        try {
+            MethodHandles.Lookup lookup = MethodHandles.lookup();
+            TAIL = lookup.findVarHandle(MpscQueue.class, "tail", Node.class);
+            NEXT = lookup.findVarHandle(Node.class, "next", Node.class);
+        } catch (ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    static final class Node<T> {
+        T value;
+        volatile Node<T> next;
+
+        Node(T value) {
+            this.value = value;
+        }
+    }
+
+    // Produtores trocam a cauda; o consumidor avança a cabeça (nó sentinela)
+    private volatile Node<T> tail;
+    private Node<T> head;
+
+    MpscQueue() {
+        Node<T> stub = new Node<>(null);
+        head = stub;
+        tail = stub;
+    }
+
+    @SuppressWarnings("unchecked")
+    void offer(T value) {
+        Node<T> node = new Node<>(value);
+        Node<T> prev = (Node<T>) TAIL.getAndSet(this, node);
+        NEXT.setRelease(prev, node);
+    }
+
+    // Apenas o consumidor
+    T poll() {
+        Node<T> next = head.next;
+        if (next == null) return null;
+        T value = next.value;
+        next.value = null;
+        head = next;
+        return value;
+    }
+
+    // Apenas o consumidor: false se algum produtor já publicou (mesmo sem ter ligado o nó)
+    boolean isEmpty() {
+        return tail == head;
+    }
+}
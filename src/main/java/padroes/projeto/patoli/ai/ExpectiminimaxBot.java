@@ -0,0 +1,310 @@
+package padroes.projeto.patoli.ai;
+
+import padroes.projeto.patoli.ai.tablebase.EndgameTablebase;
+import padroes.projeto.patoli.model.game.CoinDice;
+import padroes.projeto.patoli.model.game.Game;
+import padroes.projeto.patoli.model.game.GameState;
+import padroes.projeto.patoli.simulation.MoveStrategy;
+
+import java.util.random.RandomGenerator;
+
+/**
+ * Jogador por busca expectiminimax com poda Star1/Star2 nos nós de acaso.
+ *
+ * Nós de decisão: o jogador da vez (BLACK maximiza, WHITE minimiza) escolhe a jogada.
+ * Nós de acaso: a próxima rolagem, ponderada pela distribuição exata de CoinDice.
+ * Como todo valor está em [-1, 1], cada nó de acaso consegue limitar o resultado
+ * antes de visitar todas as rolagens (Star1) e, sondando apenas a primeira jogada
+ * de cada rolagem, obter limites ainda mais justos (Star2).
+ *
+ * Aprofundamento iterativo sob orçamento de tempo; a busca roda numa cópia
+ * privada do jogo com applyMove/undoMove (make/unmake), então a partida real
+ * nunca é alterada nem notifica observers.
+ * Não é thread-safe: use uma instância por thread.
+ */
+public class ExpectiminimaxBot implements MoveStrategy {
+    public static final long DEFAULT_BUDGET_MILLIS = 50;
+
+    private static final int MAX_DEPTH = 32;
+    private static final int MAX_MOVES = 8;
+    private static final int ROLLS = CoinDice.COINS + 1;
+    private static final double L = PositionEvaluator.LOSS;
+    private static final double U = PositionEvaluator.WIN;
+    private static final double[] P = new double[ROLLS];
+    // Verificar o relógio a cada N nós
+    private static final int TIME_CHECK_MASK = 0x3ff;
+
+    static {
+        for (int r = 0; r < ROLLS; r++) P[r] = CoinDice.probability(r);
+    }
+
+    private final long budgetNanos;
+    private final TranspositionTable tt;
+    private final PositionEvaluator evaluator = new PositionEvaluator();
+
+    // Buffers por profundidade (sem alocação durante a busca)
+    private final int[][] moves = new int[MAX_DEPTH + 1][MAX_MOVES];
+    private final double[][] lowerBounds = new double[MAX_DEPTH + 1][ROLLS];
+    private final double[][] upperBounds = new double[MAX_DEPTH + 1][ROLLS];
+
+    // Opcional: finais resolvidos (valor exato, sem busca)
+    private EndgameTablebase tablebase;
+
+    private Game search;
+    private long deadline;
+    private long nodes;
+    private int completedDepth;
+
+    public ExpectiminimaxBot() {
+        this(DEFAULT_BUDGET_MILLIS, new TranspositionTable(1 << 16));
+    }
+
+    public ExpectiminimaxBot(long budgetMillis, TranspositionTable tt) {
+        this.budgetNanos = budgetMillis * 1_000_000L;
+        this.tt = tt;
+    }
+
+    public void setTablebase(EndgameTablebase tablebase) {
+        this.tablebase = tablebase;
+    }
+
+    // Métricas da última busca
+    public long getNodes() { return nodes; }
+    public int getCompletedDepth() { return completedDepth; }
+
+    @Override
+    public int chooseMove(Game game, RandomGenerator rng) {
+        if (search == null) search = new Game(game.getBlack().getName(), game.getWhite().getName());
+        GameState root = game.captureState();
+        deadline = System.nanoTime() + budgetNanos;
+        nodes = 0;
+        completedDepth = 0;
+
+        search.restoreState(root);
+        int[] rootMoves = moves[0];
+        int count = generateMoves(rootMoves, TranspositionTable.NO_MOVE);
+        int best = rootMoves[0];
+        if (count == 1) return best;
+
+        for (int depth = 1; depth <= MAX_DEPTH; depth++) {
+            try {
+                search.restoreState(root);
+                count = generateMoves(rootMoves, best);
+                best = searchRoot(rootMoves, count, depth);
+                completedDepth = depth;
+            } catch (SearchTimeout timeout) {
+                break;
+            }
+        }
+        return best;
+    }
+
+    private int searchRoot(int[] rootMoves, int count, int depth) {
+        boolean max = search.getCurrent() == search.getBlack();
+        double alpha = L, beta = U;
+        int bestMove = rootMoves[0];
+        double best = max ? Double.NEGATIVE_INFINITY : Double.POSITIVE_INFINITY;
+        for (int i = 0; i < count; i++) {
+            double v = child(rootMoves[i], depth, alpha, beta);
+            if (max ? v > best : v < best) {
+                best = v;
+                bestMove = rootMoves[i];
+            }
+            if (max) alpha = Math.max(alpha, best);
+            else beta = Math.min(beta, best);
+        }
+        return bestMove;
+    }
+
+    // Nó de decisão: a rolagem já está aplicada em 'search'
+    private double decision(int depth, double alpha, double beta) {
+        countNode();
+        long key = search.getZobristKey();
+        long data = tt.probe(key);
+        int ttMove = TranspositionTable.NO_MOVE;
+        if (data != TranspositionTable.MISS) {
+            ttMove = TranspositionTable.bestMove(data);
+            if (TranspositionTable.depth(data) >= depth) {
+                double v = TranspositionTable.value(data);
+                int bound = TranspositionTable.bound(data);
+                if (bound == TranspositionTable.EXACT
+                        || (bound == TranspositionTable.LOWER && v >= beta)
+                        || (bound == TranspositionTable.UPPER && v <= alpha)) {
+                    return v;
+                }
+            }
+        }
+
+        int[] buf = moves[depth];
+        int count = generateMoves(buf, ttMove);
+        if (count == 0) return pass(depth);
+
+        boolean max = search.getCurrent() == search.getBlack();
+        double a = alpha, b = beta;
+        double best = max ? Double.NEGATIVE_INFINITY : Double.POSITIVE_INFINITY;
+        int bestMove = buf[0];
+        for (int i = 0; i < count; i++) {
+            double v = child(buf[i], depth, a, b);
+            if (max ? v > best : v < best) {
+                best = v;
+                bestMove = buf[i];
+            }
+            if (max) a = Math.max(a, best);
+            else b = Math.min(b, best);
+            if (a >= b) break;
+        }
+        int bound = best <= alpha ? TranspositionTable.UPPER
+                : best >= beta ? TranspositionTable.LOWER
+                : TranspositionTable.EXACT;
+        tt.store(key, depth, bound, (float) best, bestMove);
+        return best;
+    }
+
+    // Sonda Star2: apenas a primeira jogada (ordenada) — limite inferior p/ MAX, superior p/ MIN
+    private double probe(int depth, double alpha, double beta) {
+        countNode();
+        long data = tt.probe(search.getZobristKey());
+        int ttMove = data != TranspositionTable.MISS ? TranspositionTable.bestMove(data) : TranspositionTable.NO_MOVE;
+        int[] buf = moves[depth];
+        int count = generateMoves(buf, ttMove);
+        if (count == 0) return pass(depth);
+        return child(buf[0], depth, alpha, beta);
+    }
+
+    private double pass(int depth) {
+        long undo = search.applyMove(Game.MOVE_PASS);
+        double v = afterMove(depth - 1, L, U);
+        search.undoMove(undo);
+        return v;
+    }
+
+    private double child(int move, int depth, double alpha, double beta) {
+        long undo = search.applyMove(move);
+        double v = afterMove(depth - 1, alpha, beta);
+        search.undoMove(undo);
+        return v;
+    }
+
+    private double afterMove(int depth, double alpha, double beta) {
+        if (search.isGameOver()) return evaluator.terminal(search);
+        if (tablebase != null) {
+            double blackWins = tablebase.probe(search);
+            if (!Double.isNaN(blackWins)) return 2 * blackWins - 1;
+        }
+        if (depth <= 0) return evaluator.evaluate(search);
+        return chance(depth, alpha, beta);
+    }
+
+    // Nó de acaso (antes da rolagem): Star2 (sondagem) seguida de Star1
+    private double chance(int depth, double alpha, double beta) {
+        countNode();
+        long key = search.getZobristKey();
+        long data = tt.probe(key);
+        if (data != TranspositionTable.MISS && TranspositionTable.depth(data) >= depth) {
+            double v = TranspositionTable.value(data);
+            int bound = TranspositionTable.bound(data);
+            if (bound == TranspositionTable.EXACT
+                    || (bound == TranspositionTable.LOWER && v >= beta)
+                    || (bound == TranspositionTable.UPPER && v <= alpha)) {
+                return v;
+            }
+        }
+
+        boolean maxChildren = search.getCurrent() == search.getBlack();
+        double[] lo = lowerBounds[depth];
+        double[] hi = upperBounds[depth];
+        double loSum = 0, hiSum = 0;
+        for (int r = 0; r < ROLLS; r++) {
+            lo[r] = L;
+            hi[r] = U;
+            loSum += P[r] * L;
+            hiSum += P[r] * U;
+        }
+
+        // Star2: a primeira jogada de cada rolagem dá um limite para o nó filho
+        for (int r = 0; r < ROLLS; r++) {
+            long undo = search.applyChance(r);
+            if (maxChildren) {
+                double othersLo = loSum - P[r] * lo[r];
+                double b = (beta - othersLo) / P[r];
+                if (b <= U) {
+                    double v = probe(depth, L, b);
+                    lo[r] = Math.max(L, v);
+                    loSum = othersLo + P[r] * lo[r];
+                }
+            } else {
+                double othersHi = hiSum - P[r] * hi[r];
+                double a = (alpha - othersHi) / P[r];
+                if (a >= L) {
+                    double v = probe(depth, a, U);
+                    hi[r] = Math.min(U, v);
+                    hiSum = othersHi + P[r] * hi[r];
+                }
+            }
+            search.undoMove(undo);
+            if (loSum >= beta) return store(key, depth, loSum, alpha, beta);
+            if (hiSum <= alpha) return store(key, depth, hiSum, alpha, beta);
+        }
+
+        // Star1: busca completa com janelas derivadas dos limites das rolagens restantes
+        double sum = 0;
+        double restLo = loSum, restHi = hiSum;
+        for (int r = 0; r < ROLLS; r++) {
+            restLo -= P[r] * lo[r];
+            restHi -= P[r] * hi[r];
+            double a = (alpha - sum - restHi) / P[r];
+            double b = (beta - sum - restLo) / P[r];
+            if (a >= hi[r]) return store(key, depth, sum + P[r] * hi[r] + restHi, alpha, beta);
+            if (b <= lo[r]) return store(key, depth, sum + P[r] * lo[r] + restLo, alpha, beta);
+
+            long undo = search.applyChance(r);
+            double v = decision(depth, Math.max(lo[r], a), Math.min(hi[r], b));
+            search.undoMove(undo);
+
+            sum += P[r] * v;
+            if (v <= a) return store(key, depth, sum + restHi, alpha, beta);
+            if (v >= b) return store(key, depth, sum + restLo, alpha, beta);
+        }
+        return store(key, depth, sum, alpha, beta);
+    }
+
+    private double store(long key, int depth, double value, double alpha, double beta) {
+        int bound = value <= alpha ? TranspositionTable.UPPER
+                : value >= beta ? TranspositionTable.LOWER
+                : TranspositionTable.EXACT;
+        tt.store(key, depth, bound, (float) value, TranspositionTable.NO_MOVE);
+        return value;
+    }
+
+    /**
+     * Preenche 'buf' com as jogadas válidas do jogador atual (ids de peça e ENTER),
+     * colocando 'first' na frente quando presente. Retorna a quantidade.
+     */
+    private int generateMoves(int[] buf, int first) {
+        int count = search.fillMoves(buf);
+        for (int i = 1; i < count; i++) {
+            if (buf[i] == first) {
+                buf[i] = buf[0];
+                buf[0] = first;
+                break;
+            }
+        }
+        return count;
+    }
+
+    private void countNode() {
+        if ((++nodes & TIME_CHECK_MASK) == 0 && System.nanoTime() > deadline) {
+            throw SearchTimeout.INSTANCE;
+        }
+    }
+
+    // Interrompe a iteração corrente (sem stack trace: é controle de fluxo)
+    private static final class SearchTimeout extends RuntimeException {
+        private static final long serialVersionUID = 1L;
+        static final SearchTimeout INSTANCE = new SearchTimeout();
+
+        private SearchTimeout() {
+            super(null, null, false, false);
+        }
+    }
+}
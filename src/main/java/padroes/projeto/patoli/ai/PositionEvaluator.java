@@ -0,0 +1,57 @@
+package padroes.projeto.patoli.ai;
+
+import padroes.projeto.patoli.model.board.Piece;
+import padroes.projeto.patoli.model.board.Player;
+import padroes.projeto.patoli.model.game.Game;
+
+/**
+ * Avaliação heurística da posição do ponto de vista do BLACK, no intervalo (-1, 1).
+ * Vitória/derrota confirmadas valem exatamente +1/-1, então a heurística nunca
+ * empata com um resultado terminal.
+ */
+public class PositionEvaluator {
+    public static final double WIN = 1.0;
+    public static final double LOSS = -1.0;
+    public static final double DRAW = 0.0;
+
+    private static final double FINISHED_WEIGHT = 0.6;
+    private static final double PROGRESS_WEIGHT = 0.3;
+    private static final double COINS_WEIGHT = 0.3;
+    private static final double TOTAL_COINS = 20.0;
+
+    /**
+     * Valor de uma partida encerrada (BLACK vence = +1).
+     */
+    public double terminal(Game game) {
+        Player winner = game.getWinner();
+        if (winner == null) return DRAW;
+        return winner == game.getBlack() ? WIN : LOSS;
+    }
+
+    public double evaluate(Game game) {
+        if (game.isGameOver()) return terminal(game);
+        int n = game.getBoard().size();
+        double score = FINISHED_WEIGHT * (finished(game.getBlack()) - finished(game.getWhite()))
+                + PROGRESS_WEIGHT * (progress(game, game.getBlack(), n) - progress(game, game.getWhite(), n))
+                + COINS_WEIGHT * (game.getBlack().getCoins() - game.getWhite().getCoins()) / TOTAL_COINS;
+        return Math.tanh(score);
+    }
+
+    // Fração de peças finalizadas
+    private double finished(Player player) {
+        return (double) player.countFinished() / player.getPieces().size();
+    }
+
+    // Fração média do percurso já feita pelas peças no tabuleiro
+    private double progress(Game game, Player player, int n) {
+        int start = game.getBoard().getStartIndex(player.getColor());
+        double total = 0;
+        for (Piece p : player.getPieces()) {
+            if (!p.isOnBoard()) continue;
+            int travelled = p.getPosition() - start;
+            if (travelled < 0) travelled += n;
+            total += (double) travelled / n;
+        }
+        return total / player.getPieces().size();
+    }
+}
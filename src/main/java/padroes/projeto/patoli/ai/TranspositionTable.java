@@ -0,0 +1,93 @@
+package padroes.projeto.patoli.ai;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+
+/**
+ * Tabela de transposição de tamanho fixo, sem locks, guardada num long[] primitivo.
+ *
+ * Cada bucket tem duas entradas: a primeira só é substituída por buscas de
+ * profundidade maior ou igual (depth-preferred); a segunda é sempre substituída
+ * (always-replace). Cada entrada ocupa dois longs: (chave ^ dados, dados).
+ * Uma escrita concorrente "rasgada" faz a verificação da chave falhar, e a
+ * entrada é simplesmente tratada como ausente — por isso dispensa sincronização.
+ *
+ * Layout dos dados (long):
+ * - bits 0..31: valor (float)
+ * - bits 32..39: profundidade
+ * - bits 40..41: tipo de limite (EXACT, LOWER, UPPER)
+ * - bits 42..49: melhor jogada (byte; NO_MOVE se não houver)
+ */
+public class TranspositionTable {
+    public static final int EXACT = 1;
+    public static final int LOWER = 2;
+    public static final int UPPER = 3;
+
+    public static final int NO_MOVE = -128;
+
+    // Resultado de probe() quando a posição não está na tabela
+    public static final long MISS = 0L;
+
+    private static final VarHandle LONGS = MethodHandles.arrayElementVarHandle(long[].class);
+    private static final int LONGS_PER_BUCKET = 4;
+
+    private final long[] table;
+    private final int bucketMask;
+
+    /**
+     * @param buckets quantidade de buckets (arredondada para potência de 2)
+     */
+    public TranspositionTable(int buckets) {
+        int size = Integer.highestOneBit(Math.max(1, buckets - 1)) << 1;
+        this.table = new long[size * LONGS_PER_BUCKET];
+        this.bucketMask = size - 1;
+    }
+
+    /**
+     * Retorna os dados empacotados da posição ou MISS.
+     */
+    public long probe(long key) {
+        int base = bucket(key);
+        for (int i = base; i < base + LONGS_PER_BUCKET; i += 2) {
+            long data = (long) LONGS.getOpaque(table, i + 1);
+            long check = (long) LONGS.getOpaque(table, i);
+            if (data != MISS && (check ^ data) == key) return data;
+        }
+        return MISS;
+    }
+
+    public void store(long key, int depth, int bound, float value, int bestMove) {
+        long data = pack(depth, bound, value, bestMove);
+        int base = bucket(key);
+        long deepData = (long) LONGS.getOpaque(table, base + 1);
+        long deepKey = (long) LONGS.getOpaque(table, base) ^ deepData;
+        int slot = (deepData == MISS || deepKey == key || depth >= depth(deepData)) ? base : base + 2;
+        LONGS.setOpaque(table, slot + 1, data);
+        LONGS.setOpaque(table, slot, key ^ data);
+    }
+
+    public void clear() {
+        for (int i = 0; i < table.length; i++) LONGS.setOpaque(table, i, 0L);
+    }
+
+    public int capacity() {
+        return (bucketMask + 1) * 2;
+    }
+
+    private int bucket(long key) {
+        return ((int) (key ^ (key >>> 32)) & bucketMask) * LONGS_PER_BUCKET;
+    }
+
+    // Decodificação dos dados retornados por probe()
+    public static float value(long data) { return Float.intBitsToFloat((int) data); }
+    public static int depth(long data) { return (int) ((data >>> 32) & 0xff); }
+    public static int bound(long data) { return (int) ((data >>> 40) & 0x3); }
+    public static int bestMove(long data) { return (byte) (data >>> 42); }
+
+    private static long pack(int depth, int bound, float value, int bestMove) {
+        return (Float.floatToRawIntBits(value) & 0xffffffffL)
+                | ((long) (Math.min(depth, 255) & 0xff) << 32)
+                | ((long) (bound & 0x3) << 40)
+                | ((long) (bestMove & 0xff) << 42);
+    }
+}
@@ -0,0 +1,275 @@
+package padroes.projeto.patoli.ai.mcts;
+
+import padroes.projeto.patoli.ai.PositionEvaluator;
+import padroes.projeto.patoli.model.game.CoinDice;
+import padroes.projeto.patoli.model.game.Game;
+import padroes.projeto.patoli.model.game.GameState;
+import padroes.projeto.patoli.simulation.MoveStrategy;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.random.RandomGenerator;
+
+/**
+ * Jogador por Monte Carlo Tree Search paralelo sobre uma única árvore compartilhada.
+ *
+ * Cada thread desce a árvore por UCT, aplicando "virtual loss" nos nós do caminho
+ * para que as demais threads explorem outros ramos; as rolagens das moedas são nós
+ * de acaso, sorteados pela distribuição exata de CoinDice. Visitas e valores são
+ * contadores atômicos, então não há locks na descida nem na retropropagação.
+ *
+ * Cada thread trabalha numa cópia privada do jogo (restaurada da raiz via GameState).
+ * chooseMove não deve ser chamado concorrentemente na mesma instância.
+ */
+public class MctsBot implements MoveStrategy {
+    public static final long DEFAULT_BUDGET_MILLIS = 50;
+
+    private static final double EXPLORATION = 1.2;
+    // Cada virtual loss conta como uma derrota para quem escolhe o ramo
+    private static final int VIRTUAL_LOSS = 1;
+    private static final int MAX_PATH = 4_096;
+    private static final int MAX_PLAYOUT_TURNS = 2_000;
+    private static final int MAX_MOVES = 8;
+    private static final int ROLLS = CoinDice.COINS + 1;
+    // Aresta da raiz / "passar" (sem jogada)
+    private static final int NO_EDGE = Integer.MIN_VALUE;
+
+    // Pool compartilhado (threads daemon) para os workers auxiliares
+    private static final ExecutorService SHARED_POOL = Executors.newCachedThreadPool(r -> {
+        Thread t = new Thread(r, "mcts-worker");
+        t.setDaemon(true);
+        return t;
+    });
+
+    private final long budgetNanos;
+    private final int threads;
+    private final ExecutorService executor;
+    private final PositionEvaluator evaluator = new PositionEvaluator();
+    private final Worker[] workers;
+
+    // Métricas da última busca
+    private final AtomicLong playouts = new AtomicLong();
+    private final AtomicInteger treeSize = new AtomicInteger();
+    private long lastElapsedNanos;
+
+    public MctsBot() {
+        this(DEFAULT_BUDGET_MILLIS, Runtime.getRuntime().availableProcessors());
+    }
+
+    public MctsBot(long budgetMillis, int threads) {
+        this(budgetMillis, threads, SHARED_POOL);
+    }
+
+    public MctsBot(long budgetMillis, int threads, ExecutorService executor) {
+        this.budgetNanos = budgetMillis * 1_000_000L;
+        this.threads = Math.max(1, threads);
+        this.executor = executor;
+        this.workers = new Worker[this.threads];
+        for (int i = 0; i < workers.length; i++) workers[i] = new Worker();
+    }
+
+    public long getPlayouts() { return playouts.get(); }
+    public int getTreeSize() { return treeSize.get(); }
+
+    public double playoutsPerSecond() {
+        return lastElapsedNanos == 0 ? 0 : playouts.get() * 1e9 / lastElapsedNanos;
+    }
+
+    @Override
+    public int chooseMove(Game game, RandomGenerator rng) {
+        GameState rootState = game.captureState();
+        MctsNode root = new MctsNode(MctsNode.DECISION, NO_EDGE);
+        playouts.set(0);
+        treeSize.set(1);
+        long start = System.nanoTime();
+        long deadline = start + budgetNanos;
+
+        Future<?>[] helpers = new Future<?>[threads - 1];
+        for (int i = 1; i < threads; i++) {
+            Worker w = workers[i];
+            long seed = rng.nextLong();
+            helpers[i - 1] = executor.submit(() -> w.run(game, rootState, root, deadline, seed));
+        }
+        workers[0].run(game, rootState, root, deadline, rng.nextLong());
+        for (Future<?> f : helpers) {
+            try {
+                f.get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } catch (ExecutionException e) {
+                throw new IllegalStateException("Falha numa thread de busca MCTS", e.getCause());
+            }
+        }
+        lastElapsedNanos = System.nanoTime() - start;
+        return mostVisited(root, game);
+    }
+
+    private int mostVisited(MctsNode root, Game game) {
+        AtomicReferenceArray<MctsNode> children = root.childrenOrNull();
+        int best = NO_EDGE;
+        long bestVisits = -1;
+        if (children != null) {
+            for (int i = 0; i < children.length(); i++) {
+                MctsNode c = children.get(i);
+                if (c != null && c.visits.get() > bestVisits) {
+                    bestVisits = c.visits.get();
+                    best = c.edge;
+                }
+            }
+        }
+        if (best != NO_EDGE) return best;
+        // Orçamento esgotado antes da primeira expansão: primeira jogada válida
+        int[] buf = new int[MAX_MOVES];
+        game.fillMoves(buf);
+        return buf[0];
+    }
+
+    /**
+     * Estado por thread: cópia do jogo, gerador e buffers reutilizados.
+     */
+    private final class Worker {
+        private final MctsNode[] path = new MctsNode[MAX_PATH];
+        private final int[] moves = new int[MAX_MOVES];
+        private Game sim;
+        private SplittableRandom random;
+
+        void run(Game game, GameState rootState, MctsNode root, long deadline, long seed) {
+            if (sim == null) sim = new Game(game.getBlack().getName(), game.getWhite().getName());
+            random = new SplittableRandom(seed);
+            while (System.nanoTime() < deadline) {
+                sim.restoreState(rootState);
+                iterate(root);
+                playouts.incrementAndGet();
+            }
+        }
+
+        private void iterate(MctsNode root) {
+            int depth = 0;
+            MctsNode node = root;
+            double value;
+            while (true) {
+                path[depth++] = node;
+                node.virtualLoss.addAndGet(VIRTUAL_LOSS);
+
+                if (node.kind == MctsNode.DECISION) {
+                    int count = generateMoves();
+                    AtomicReferenceArray<MctsNode> children = node.children(Math.max(1, count));
+                    int index = select(node, children, sim.getCurrent() == sim.getBlack());
+                    int move = count == 0 ? NO_EDGE : moves[index];
+                    if (move != NO_EDGE) play(move);
+                    sim.nextTurnIfNeeded();
+                    MctsNode child = children.get(index);
+                    boolean created = false;
+                    if (child == null) {
+                        created = children.compareAndSet(index, null, new MctsNode(MctsNode.CHANCE, move));
+                        if (created) treeSize.incrementAndGet();
+                        child = children.get(index);
+                    }
+                    if (sim.isGameOver()) {
+                        path[depth++] = child;
+                        child.virtualLoss.addAndGet(VIRTUAL_LOSS);
+                        value = evaluator.terminal(sim);
+                        break;
+                    }
+                    node = child;
+                    if (created || depth >= MAX_PATH - 1) {
+                        path[depth++] = node;
+                        node.virtualLoss.addAndGet(VIRTUAL_LOSS);
+                        value = playout();
+                        break;
+                    }
+                } else {
+                    int roll = sampleRoll();
+                    sim.applyRoll(roll);
+                    AtomicReferenceArray<MctsNode> children = node.children(ROLLS);
+                    MctsNode child = children.get(roll);
+                    if (child == null && children.compareAndSet(roll, null, new MctsNode(MctsNode.DECISION, roll))) {
+                        treeSize.incrementAndGet();
+                        node = children.get(roll);
+                        path[depth++] = node;
+                        node.virtualLoss.addAndGet(VIRTUAL_LOSS);
+                        value = playoutFromDecision();
+                        break;
+                    }
+                    node = children.get(roll);
+                }
+            }
+            for (int i = 0; i < depth; i++) {
+                path[i].update(value);
+                path[i].virtualLoss.addAndGet(-VIRTUAL_LOSS);
+                path[i] = null;
+            }
+        }
+
+        /**
+         * UCT com virtual loss: visitas em andamento contam como derrotas para quem escolhe.
+         * Filhos ainda não visitados têm prioridade.
+         */
+        private int select(MctsNode node, AtomicReferenceArray<MctsNode> children, boolean blackToMove) {
+            int n = children.length();
+            if (n == 1) return 0;
+            long parentVisits = node.visits.get() + node.virtualLoss.get();
+            double logParent = Math.log(Math.max(1, parentVisits));
+            int best = 0;
+            double bestScore = Double.NEGATIVE_INFINITY;
+            int offset = random.nextInt(n);
+            for (int k = 0; k < n; k++) {
+                int i = (k + offset) % n;
+                MctsNode c = children.get(i);
+                if (c == null) return i;
+                long vl = c.virtualLoss.get();
+                long visits = c.visits.get() + vl;
+                if (visits == 0) return i;
+                double sum = (double) c.valueSum.get() / MctsNode.VALUE_SCALE;
+                double mine = (blackToMove ? sum : -sum) - vl;
+                double score = mine / visits + EXPLORATION * Math.sqrt(logParent / visits);
+                if (score > bestScore) {
+                    bestScore = score;
+                    best = i;
+                }
+            }
+            return best;
+        }
+
+        // Simulação aleatória a partir de um nó de acaso (antes da rolagem)
+        private double playout() {
+            for (int turns = 0; turns < MAX_PLAYOUT_TURNS; turns++) {
+                if (sim.isGameOver()) return evaluator.terminal(sim);
+                sim.applyRoll(sampleRoll());
+                randomMoveAndTurn();
+            }
+            return evaluator.evaluate(sim);
+        }
+
+        // Simulação a partir de um nó de decisão (rolagem já aplicada)
+        private double playoutFromDecision() {
+            randomMoveAndTurn();
+            return playout();
+        }
+
+        private void randomMoveAndTurn() {
+            int count = generateMoves();
+            if (count > 0) play(moves[random.nextInt(count)]);
+            sim.nextTurnIfNeeded();
+        }
+
+        private int generateMoves() {
+            return sim.fillMoves(moves);
+        }
+
+        private void play(int move) {
+            if (!sim.playMove(move)) throw new IllegalStateException("Jogada gerada inválida: " + move);
+        }
+
+        // Binomial(5, 1/2): popcount de 5 bits aleatórios
+        private int sampleRoll() {
+            return Integer.bitCount(random.nextInt() & 0x1f);
+        }
+    }
+}
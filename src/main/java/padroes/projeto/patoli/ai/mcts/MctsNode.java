@@ -0,0 +1,60 @@
+package padroes.projeto.patoli.ai.mcts;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
+
+/**
+ * Nó da árvore compartilhada entre as threads de busca.
+ *
+ * DECISION: rolagem conhecida; filhos = jogadas do jogador da vez (ou um único "passar").
+ * CHANCE: antes da rolagem; filhos = resultados 0..5 das moedas (sorteados, não escolhidos).
+ *
+ * Contadores são atômicos e os filhos são criados por CAS, então a árvore
+ * cresce sem locks. O valor acumulado é do ponto de vista do BLACK, em ponto fixo.
+ */
+final class MctsNode {
+    static final int DECISION = 0;
+    static final int CHANCE = 1;
+
+    // Escala de ponto fixo para valores em [-1, 1]
+    static final long VALUE_SCALE = 1_000_000L;
+
+    final int kind;
+    // Jogada que levou a este nó (filhos de DECISION) ou a rolagem (filhos de CHANCE)
+    final int edge;
+
+    final AtomicLong visits = new AtomicLong();
+    final AtomicLong valueSum = new AtomicLong();
+    final AtomicInteger virtualLoss = new AtomicInteger();
+
+    @SuppressWarnings("rawtypes")
+    private static final AtomicReferenceFieldUpdater<MctsNode, AtomicReferenceArray> CHILDREN =
+            AtomicReferenceFieldUpdater.newUpdater(MctsNode.class, AtomicReferenceArray.class, "children");
+
+    private volatile AtomicReferenceArray<MctsNode> children;
+
+    MctsNode(int kind, int edge) {
+        this.kind = kind;
+        this.edge = edge;
+    }
+
+    AtomicReferenceArray<MctsNode> children(int count) {
+        AtomicReferenceArray<MctsNode> c = children;
+        if (c == null) {
+            CHILDREN.compareAndSet(this, null, new AtomicReferenceArray<MctsNode>(count));
+            c = children;
+        }
+        return c;
+    }
+
+    AtomicReferenceArray<MctsNode> childrenOrNull() {
+        return children;
+    }
+
+    void update(double value) {
+        visits.incrementAndGet();
+        valueSum.addAndGet(Math.round(value * VALUE_SCALE));
+    }
+}
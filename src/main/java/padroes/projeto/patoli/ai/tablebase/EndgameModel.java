@@ -0,0 +1,189 @@
+package padroes.projeto.patoli.ai.tablebase;
+
+import padroes.projeto.patoli.model.board.Board;
+import padroes.projeto.patoli.model.board.Piece;
+import padroes.projeto.patoli.model.board.Player;
+import padroes.projeto.patoli.model.board.enums.PlayerColorEnum;
+import padroes.projeto.patoli.model.game.CoinDice;
+import padroes.projeto.patoli.model.game.Game;
+import padroes.projeto.patoli.model.game.GameSnapshot;
+import padroes.projeto.patoli.model.game.rules.CompiledMovementRules;
+
+import java.util.function.IntToDoubleFunction;
+
+/**
+ * Espaço de estados do final "uma peça restante por lado" e suas transições.
+ * Compartilhado pelo solver (valores em memória) e pela tabela mapeada (valores no arquivo).
+ *
+ * Estado (antes da rolagem): cor da vez, posição de cada peça restante
+ * (0 = fora do tabuleiro, 1 + casa) e moedas de cada lado.
+ *
+ * As moedas são limitadas a 'coinCap' = (casas de punição + 1): uma única peça dá no
+ * máximo uma volta, então nunca paga mais que isso antes do fim. Acima desse valor o
+ * resultado não depende das moedas, e o limite é exato. O pote não altera quem vence.
+ *
+ * Valores: probabilidade de vitória do BLACK (empate conta 0,5).
+ */
+final class EndgameModel {
+    private static final int ROLLS = CoinDice.COINS + 1;
+    private static final double[] P = new double[ROLLS];
+
+    static {
+        for (int r = 0; r < ROLLS; r++) P[r] = CoinDice.probability(r);
+    }
+
+    final int trackSize;
+    final int positions;
+    final int coinCap;
+    final int layoutHash;
+    private final int[] start = new int[2];
+    private final boolean[] triangle;
+    private final boolean[] endpoint;
+    private final CompiledMovementRules rules;
+
+    EndgameModel(Board board) {
+        this.trackSize = board.size();
+        this.positions = trackSize + 1;
+        this.triangle = new boolean[trackSize];
+        this.endpoint = new boolean[trackSize];
+        int triangles = 0;
+        int hash = trackSize;
+        for (int i = 0; i < trackSize; i++) {
+            triangle[i] = board.isTriangle(i);
+            endpoint[i] = board.isEndpoint(i);
+            if (triangle[i]) triangles++;
+            hash = 31 * hash + (triangle[i] ? 1 : 0) + (endpoint[i] ? 2 : 0);
+        }
+        for (PlayerColorEnum color : PlayerColorEnum.values()) {
+            start[color.ordinal()] = board.getStartIndex(color);
+            hash = 31 * hash + start[color.ordinal()];
+        }
+        this.coinCap = triangles + 1;
+        this.layoutHash = hash;
+        this.rules = CompiledMovementRules.forBoard(board);
+    }
+
+    int size() {
+        return 2 * positions * positions * coinCap * coinCap;
+    }
+
+    int index(int side, int posBlack, int posWhite, int coinsBlack, int coinsWhite) {
+        return (((side * positions + posBlack) * positions + posWhite) * coinCap
+                + (clampCoins(coinsBlack) - 1)) * coinCap + (clampCoins(coinsWhite) - 1);
+    }
+
+    private int clampCoins(int coins) {
+        return Math.min(coins, coinCap);
+    }
+
+    /**
+     * Índice do estado atual do jogo, ou -1 se não for um final coberto
+     * (precisa de exatamente uma peça restante por lado e partida em andamento).
+     */
+    int indexOf(Game game) {
+        if (game.isGameOver()) return -1;
+        int posBlack = remainingPiece(game.getBlack());
+        int posWhite = remainingPiece(game.getWhite());
+        if (posBlack < 0 || posWhite < 0) return -1;
+        int side = game.getCurrent().getColor().ordinal();
+        return index(side, posBlack, posWhite, game.getBlack().getCoins(), game.getWhite().getCoins());
+    }
+
+    int indexOf(GameSnapshot snapshot) {
+        if (snapshot.gameOver()) return -1;
+        int posBlack = remainingPiece(snapshot, PlayerColorEnum.BLACK);
+        int posWhite = remainingPiece(snapshot, PlayerColorEnum.WHITE);
+        if (posBlack < 0 || posWhite < 0) return -1;
+        int side = snapshot.currentColor().ordinal();
+        return index(side, posBlack, posWhite, snapshot.coins(PlayerColorEnum.BLACK), snapshot.coins(PlayerColorEnum.WHITE));
+    }
+
+    private int remainingPiece(GameSnapshot snapshot, PlayerColorEnum color) {
+        int code = -1;
+        for (int id = 0; id < snapshot.piecesPerPlayer(); id++) {
+            int pos = snapshot.piecePosition(color, id);
+            if (pos == Piece.FINISHED) continue;
+            if (code >= 0) return -1;
+            code = pos >= 0 ? 1 + pos : 0;
+        }
+        return code;
+    }
+
+    // Código da posição da única peça não finalizada (-1 se houver 0 ou mais de uma)
+    private int remainingPiece(Player player) {
+        if (player.getPieces().size() - player.countFinished() != 1) return -1;
+        int code = -1;
+        for (Piece p : player.getPieces()) {
+            if (p.isFinished()) continue;
+            if (code >= 0) return -1;
+            code = p.isOnBoard() ? 1 + p.getPosition() : 0;
+        }
+        return code;
+    }
+
+    /**
+     * Valor antes da rolagem: média ponderada pela distribuição das moedas.
+     */
+    double beforeRoll(int index, IntToDoubleFunction values) {
+        double sum = 0;
+        for (int r = 0; r < ROLLS; r++) sum += P[r] * afterRoll(index, r, values);
+        return sum;
+    }
+
+    /**
+     * Valor após a rolagem 'roll' no estado 'index'. Com uma peça por lado há no
+     * máximo uma jogada válida (mover ou inserir), então não há escolha a fazer.
+     */
+    double afterRoll(int index, int roll, IntToDoubleFunction values) {
+        int cw = index % coinCap + 1;
+        int rest = index / coinCap;
+        int cb = rest % coinCap + 1;
+        rest /= coinCap;
+        int pw = rest % positions;
+        rest /= positions;
+        int pb = rest % positions;
+        int side = rest / positions;
+
+        int mine = side == 0 ? pb : pw;
+        int other = side == 0 ? pw : pb;
+        int myCoins = side == 0 ? cb : cw;
+        int otherCell = other - 1; // -1 se fora do tabuleiro
+
+        int dest = Integer.MIN_VALUE;
+        if (roll > 0) {
+            if (mine == 0) {
+                if (roll == 1 && start[side] != otherCell) dest = start[side];
+            } else {
+                int d = rules.destination(side, mine - 1, roll);
+                if (d == Piece.FINISHED) return win(side);
+                if (d >= 0 && d != otherCell) dest = d;
+            }
+        }
+        if (dest == Integer.MIN_VALUE) {
+            // Sem jogada: passa a vez
+            return values.applyAsDouble(index(1 - side, pb, pw, cb, cw));
+        }
+
+        if (triangle[dest]) {
+            myCoins--;
+            if (myCoins <= 0) return win(1 - side);
+        }
+        int next = endpoint[dest] ? side : 1 - side;
+        int newPos = dest + 1;
+        return side == 0
+                ? values.applyAsDouble(index(next, newPos, pw, myCoins, cw))
+                : values.applyAsDouble(index(next, pb, newPos, cb, myCoins));
+    }
+
+    // Estados impossíveis (duas peças na mesma casa) não são resolvidos
+    boolean isValid(int index) {
+        int rest = index / coinCap / coinCap;
+        int pw = rest % positions;
+        int pb = (rest / positions) % positions;
+        return pb == 0 || pw == 0 || pb != pw;
+    }
+
+    private static double win(int side) {
+        return side == 0 ? 1.0 : 0.0;
+    }
+}
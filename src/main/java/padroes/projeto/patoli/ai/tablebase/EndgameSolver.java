@@ -0,0 +1,77 @@
+package padroes.projeto.patoli.ai.tablebase;
+
+import padroes.projeto.patoli.model.board.Board;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+
+/**
+ * Resolve o final "uma peça por lado" por iteração de valor (Gauss-Seidel) e grava
+ * a tabela binária lida por EndgameTablebase.
+ *
+ * Os ciclos do grafo de estados vêm apenas de passes (rolagem 0 ou peça bloqueada),
+ * então a iteração converge em poucas varreduras.
+ */
+public class EndgameSolver {
+    private static final double EPSILON = 1e-9;
+    private static final int MAX_SWEEPS = 10_000;
+
+    private final EndgameModel model;
+    private int sweeps;
+
+    public EndgameSolver(Board board) {
+        this.model = new EndgameModel(board);
+    }
+
+    public int getSweeps() { return sweeps; }
+
+    public double[] solve() {
+        double[] values = new double[model.size()];
+        Arrays.fill(values, 0.5);
+        double delta;
+        sweeps = 0;
+        do {
+            delta = 0;
+            for (int i = 0; i < values.length; i++) {
+                if (!model.isValid(i)) continue;
+                double v = model.beforeRoll(i, idx -> values[idx]);
+                delta = Math.max(delta, Math.abs(v - values[i]));
+                values[i] = v;
+            }
+            sweeps++;
+        } while (delta > EPSILON && sweeps < MAX_SWEEPS);
+        return values;
+    }
+
+    public void write(Path file) throws IOException {
+        double[] values = solve();
+        try (FileChannel ch = FileChannel.open(file, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            ByteBuffer header = ByteBuffer.allocate(EndgameTablebase.HEADER_BYTES);
+            header.putInt(EndgameTablebase.MAGIC)
+                    .putInt(EndgameTablebase.VERSION)
+                    .putInt(model.trackSize)
+                    .putInt(model.coinCap)
+                    .putInt(model.layoutHash)
+                    .putInt(values.length);
+            header.flip();
+            while (header.hasRemaining()) ch.write(header);
+
+            ByteBuffer data = ByteBuffer.allocate(64 * 1024);
+            for (double v : values) {
+                if (!data.hasRemaining()) {
+                    data.flip();
+                    while (data.hasRemaining()) ch.write(data);
+                    data.clear();
+                }
+                data.putChar(EndgameTablebase.quantize(v));
+            }
+            data.flip();
+            while (data.hasRemaining()) ch.write(data);
+        }
+    }
+}
@@ -0,0 +1,80 @@
+package padroes.projeto.patoli.ai.tablebase;
+
+import padroes.projeto.patoli.model.board.Board;
+import padroes.projeto.patoli.model.game.Game;
+import padroes.projeto.patoli.model.game.GameSnapshot;
+
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Tabela de finais (uma peça restante por lado) lida de um arquivo mapeado em memória.
+ *
+ * Formato: cabeçalho de 24 bytes (magic, versão, tamanho da trilha, limite de moedas,
+ * hash do layout, quantidade de estados) seguido de um char (u16) por estado com a
+ * probabilidade de vitória do BLACK quantizada em 0..65535. Sem desserialização:
+ * cada consulta é um cálculo de índice e uma leitura do buffer mapeado.
+ */
+public class EndgameTablebase {
+    static final int MAGIC = 0x5054424c; // "PTBL"
+    static final int VERSION = 1;
+    static final int HEADER_BYTES = 24;
+    private static final double SCALE = 65535.0;
+
+    private final EndgameModel model;
+    private final MappedByteBuffer data;
+
+    private EndgameTablebase(EndgameModel model, MappedByteBuffer data) {
+        this.model = model;
+        this.data = data;
+    }
+
+    public static EndgameTablebase open(Path file, Board board) throws IOException {
+        EndgameModel model = new EndgameModel(board);
+        try (FileChannel ch = FileChannel.open(file, StandardOpenOption.READ)) {
+            MappedByteBuffer buf = ch.map(FileChannel.MapMode.READ_ONLY, 0, ch.size());
+            if (buf.getInt(0) != MAGIC || buf.getInt(4) != VERSION) {
+                throw new IOException("Arquivo não é uma tabela de finais compatível: " + file);
+            }
+            if (buf.getInt(8) != model.trackSize || buf.getInt(12) != model.coinCap
+                    || buf.getInt(16) != model.layoutHash || buf.getInt(20) != model.size()
+                    || ch.size() != HEADER_BYTES + 2L * model.size()) {
+                throw new IOException("Tabela de finais gerada para outro tabuleiro: " + file);
+            }
+            return new EndgameTablebase(model, buf);
+        }
+    }
+
+    /**
+     * Probabilidade de vitória do BLACK na posição atual, ou NaN se não coberta.
+     * Funciona antes da rolagem e também com a rolagem pendente (lastRoll >= 0).
+     */
+    public double probe(Game game) {
+        int index = model.indexOf(game);
+        if (index < 0) return Double.NaN;
+        int roll = game.getLastRoll();
+        return roll < 0 ? value(index) : model.afterRoll(index, roll, this::value);
+    }
+
+    /**
+     * Como probe(Game), mas sobre um retrato publicado: seguro em qualquer thread e
+     * coerente com os demais dados da mesma versão.
+     */
+    public double probe(GameSnapshot snapshot) {
+        int index = model.indexOf(snapshot);
+        if (index < 0) return Double.NaN;
+        int roll = snapshot.lastRoll();
+        return roll < 0 ? value(index) : model.afterRoll(index, roll, this::value);
+    }
+
+    private double value(int index) {
+        return data.getChar(HEADER_BYTES + 2 * index) / SCALE;
+    }
+
+    static char quantize(double value) {
+        return (char) Math.round(Math.max(0, Math.min(1, value)) * SCALE);
+    }
+}
@@ -1,101 +1,156 @@
 package padroes.projeto.patoli.controller;
 
+import padroes.projeto.patoli.ai.tablebase.EndgameTablebase;
 import padroes.projeto.patoli.controller.viewmodel.enums.CellTypeVMEnum;
+import padroes.projeto.patoli.controller.viewmodel.enums.GameEventVMEnum;
 import padroes.projeto.patoli.controller.viewmodel.enums.PlayerColorVMEnum;
 import padroes.projeto.patoli.model.board.Board;
 import padroes.projeto.patoli.model.board.Cell;
 import padroes.projeto.patoli.model.board.enums.CellTypeEnum;
 import padroes.projeto.patoli.model.game.Game;
+import padroes.projeto.patoli.model.game.GameEventBatch;
 import padroes.projeto.patoli.model.game.GameObserver;
+import padroes.projeto.patoli.model.game.GameSnapshot;
+import padroes.projeto.patoli.model.game.enums.GameEventTypeEnum;
 import padroes.projeto.patoli.model.board.Piece;
-import padroes.projeto.patoli.model.board.Player;
 import padroes.projeto.patoli.model.board.enums.PlayerColorEnum;
 import padroes.projeto.patoli.view.frame.GameView;
+import padroes.projeto.patoli.controller.viewmodel.BoardVM;
 import padroes.projeto.patoli.controller.viewmodel.CellVM;
 import padroes.projeto.patoli.controller.viewmodel.PieceVM;
 
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumSet;
 import java.util.List;
 
 
 public class GameController implements GameObserver {
     private final Game game;
     private GameView view;
+    private EndgameTablebase tablebase;
+
+    // Reutilizado a cada lote entregue à View
+    private final EnumSet<GameEventVMEnum> events = EnumSet.noneOf(GameEventVMEnum.class);
+    // Mensagens geradas durante um comando: exibidas depois do refresh
+    private final List<String> pendingMessages = new ArrayList<>();
+
+    // Geometria do track para o BoardVM (imutável, compartilhada entre versões)
+    private final int[] cellRow;
+    private final int[] cellCol;
+    private final CellTypeVMEnum[] cellType;
+    // ViewModel da última versão pedida pela View
+    private BoardVM boardVM;
 
     public GameController(Game game) {
         this.game = game;
+        // Os getters da View leem o último retrato publicado, nunca o estado em mutação
+        game.setSnapshotPublishing(true);
+        List<Cell> track = game.getBoard().getTrack();
+        cellRow = new int[track.size()];
+        cellCol = new int[track.size()];
+        cellType = new CellTypeVMEnum[track.size()];
+        for (Cell c : track) {
+            cellRow[c.getIndex()] = c.getRow();
+            cellCol[c.getIndex()] = c.getCol();
+            cellType[c.getIndex()] = map(c.getType());
+        }
     }
 
     public void setView(GameView view) {
         this.view = view;
         game.addObserver(this);
         if (this.view != null) {
-            this.view.onEvent("INIT");
-            this.view.onEvent("TURN");
+            events.clear();
+            events.add(GameEventVMEnum.INIT);
+            events.add(GameEventVMEnum.TURN);
+            this.view.onEvents(events);
             this.view.refresh();
         }
     }
 
+    // Tabela de finais opcional: habilita a probabilidade de vitória exata na View
+    public void setEndgameTablebase(EndgameTablebase tablebase) {
+        this.tablebase = tablebase;
+    }
+
+    // Um lote por comando: um único refresh da View
     @Override
-    public void onGameChanged(Game game, String reason) {
-        if (view != null) {
-            view.onEvent(reason);
-            view.refresh();
-        }
+    public void onGameChanged(Game game, GameEventBatch batch) {
+        if (view == null) return;
+        events.clear();
+        for (int i = 0; i < batch.size(); i++) events.add(map(batch.get(i)));
+        view.onEvents(events);
+        view.refresh();
     }
 
     public void onRoll() {
-        if (game.getLastRoll() != -1) {
-            if (view != null) view.showMessage("Você já rolou neste turno. Mova uma peça ou passe se não houver jogada.");
-            return;
-        }
-        int val = game.roll();
-        if (val == 0) {
-            if (view != null) view.showMessage("Você tirou 0. Sem movimento.");
-            onPassIfRequired();
-        }
+        command(() -> {
+            if (game.getLastRoll() != -1) {
+                message("Você já rolou neste turno. Mova uma peça ou passe se não houver jogada.");
+                return;
+            }
+            int val = game.roll();
+            if (val == 0) {
+                message("Você tirou 0. Sem movimento.");
+                passIfRequired();
+            }
+        });
     }
 
     public void onEnterNewPiece() {
-        if (game.enterNewPiece()) {
-            endMovePhase();
-        } else {
-            if (view != null) view.showMessage("Não é possível inserir nova peça agora.");
-        }
+        command(() -> {
+            if (game.enterNewPiece()) {
+                endMovePhase();
+            } else {
+                message("Não é possível inserir nova peça agora.");
+            }
+        });
     }
 
     public void onCellClicked(int row, int col) {
         if (game.isGameOver()) return;
         Board b = game.getBoard();
-        for (Cell cell : b.getTrack()) {
-            if (cell.getRow() == row && cell.getCol() == col) {
-                Piece occ = cell.getOccupant();
-                if (occ != null && occ.getOwner() == game.getCurrent()) {
-                    onPieceClicked(occ);
-                }
-                return;
-            }
+        int index = b.indexAt(row, col);
+        if (index < 0) return;
+        Piece occ = b.getOccupant(index);
+        if (occ != null && occ.getOwner() == game.getCurrent()) {
+            command(() -> onPieceClicked(occ));
         }
     }
 
+    // Seleciona a peça do jogador da vez pelo id (clientes remotos, sem coordenadas)
+    public void onPieceSelected(int pieceId) {
+        if (game.isGameOver()) return;
+        List<Piece> pieces = game.getCurrent().getPieces();
+        command(() -> {
+            if (pieceId < 0 || pieceId >= pieces.size()) message("Peça inexistente: " + pieceId);
+            else onPieceClicked(pieces.get(pieceId));
+        });
+    }
+
     private void onPieceClicked(Piece piece) {
         if (game.getLastRoll() <= 0) {
-            if (view != null) view.showMessage("Role as moedas antes de mover.");
+            message("Role as moedas antes de mover.");
             return;
         }
         if (game.movePiece(piece)) {
             endMovePhase();
         } else {
-            if (view != null) view.showMessage("Movimento inválido para esta peça.");
+            message("Movimento inválido para esta peça.");
         }
     }
 
     public void onPassIfRequired() {
+        command(this::passIfRequired);
+    }
+
+    private void passIfRequired() {
         if (game.mustPass()) {
             game.nextTurnIfNeeded();
             checkGameOverOrContinue();
         } else {
-            if (view != null) view.showMessage("Você ainda tem jogadas válidas. Não pode passar.");
+            message("Você ainda tem jogadas válidas. Não pode passar.");
         }
     }
 
@@ -106,65 +161,111 @@ public class GameController implements GameObserver {
 
     private void checkGameOverOrContinue() {
         if (game.isGameOver()) {
-            if (view != null) view.showMessage(game.gameOverMessage());
+            message(game.gameOverMessage());
+        }
+    }
+
+    // Executa uma ação do usuário como transação: os observers recebem um único lote
+    private void command(Runnable action) {
+        game.beginTransaction();
+        try {
+            action.run();
+        } finally {
+            game.commitTransaction();
+        }
+        for (String m : pendingMessages) {
+            if (view != null) view.showMessage(m);
         }
+        pendingMessages.clear();
+    }
+
+    private void message(String text) {
+        pendingMessages.add(text);
     }
 
-    // Provedores de estado para a View
+    // Provedores de estado para a View: retrato imutável + geometria (também imutável)
     public int getRows() { return game.getBoard().getRows(); }
     public int getCols() { return game.getBoard().getCols(); }
-    public int getPot() { return game.getPot(); }
+    public int getPot() { return game.getSnapshot().pot(); }
 
-    public int getLastRoll() { return game.getLastRoll(); }
-    public boolean canEnterNewPiece() { return game.canEnterNewPiece(); }
-    public boolean isGameOver() { return game.isGameOver(); }
+    public int getLastRoll() { return game.getSnapshot().lastRoll(); }
+    public boolean canEnterNewPiece() { return game.getSnapshot().canEnterNewPiece(); }
+    public boolean isGameOver() { return game.getSnapshot().gameOver(); }
 
     public String getPlayerName(PlayerColorVMEnum color) {
-        return (color == PlayerColorVMEnum.BLACK ? game.getBlack() : game.getWhite()).getName();
+        return game.getSnapshot().name(map(color));
     }
 
     public int getPlayerCoins(PlayerColorVMEnum color) {
-        return (color == PlayerColorVMEnum.BLACK ? game.getBlack() : game.getWhite()).getCoins();
+        return game.getSnapshot().coins(map(color));
     }
 
     public PlayerColorVMEnum getCurrentPlayerColor() {
-        return map(game.getCurrent().getColor());
+        return map(game.getSnapshot().currentColor());
     }
 
     public PlayerColorVMEnum getOpponentPlayerColor() {
-        return map(game.getOpponent().getColor());
+        return map(game.getSnapshot().opponentColor());
     }
 
     public long getFinishedCount(PlayerColorVMEnum color) {
-        return (color == PlayerColorVMEnum.BLACK ? game.getBlack() : game.getWhite()).countFinished();
+        return game.getSnapshot().countFinished(map(color));
+    }
+
+    // Probabilidade de vitória (0..1) no final coberto pela tabela; NaN fora dela
+    public double getEndgameWinProbability(PlayerColorVMEnum color) {
+        if (tablebase == null) return Double.NaN;
+        double blackWins = tablebase.probe(game.getSnapshot());
+        return color == PlayerColorVMEnum.BLACK ? blackWins : 1 - blackWins;
+    }
+
+    /**
+     * Tabuleiro e peças da versão atual em vetores primitivos; reconstruído apenas
+     * quando a versão do jogo muda (repinturas e redimensionamentos não alocam).
+     */
+    public BoardVM getBoardVM() {
+        GameSnapshot s = game.getSnapshot();
+        BoardVM vm = boardVM;
+        if (vm != null && vm.version == s.version()) return vm;
+
+        byte[] occupant = new byte[cellRow.length];
+        Arrays.fill(occupant, BoardVM.EMPTY);
+        PlayerColorEnum[] colors = PlayerColorEnum.values();
+        byte[][] pieceStates = new byte[colors.length][s.piecesPerPlayer()];
+        for (PlayerColorEnum color : colors) {
+            for (int id = 0; id < s.piecesPerPlayer(); id++) {
+                int pos = s.piecePosition(color, id);
+                if (pos >= 0) {
+                    occupant[pos] = (byte) (color.ordinal() << 4 | id);
+                    pieceStates[color.ordinal()][id] = BoardVM.PIECE_ON_BOARD;
+                } else {
+                    pieceStates[color.ordinal()][id] = pos == Piece.FINISHED ? BoardVM.PIECE_FINISHED : BoardVM.PIECE_RESERVED;
+                }
+            }
+        }
+        boardVM = new BoardVM(s.version(), cellRow, cellCol, cellType, occupant, pieceStates);
+        return boardVM;
     }
 
     public List<CellVM> getCells() {
-        Board b = game.getBoard();
-        List<CellVM> out = new ArrayList<>(b.getTrack().size());
-        for (Cell c : b.getTrack()) {
-            Piece occ = c.getOccupant();
-            boolean occupied = (occ != null);
-            PlayerColorVMEnum occColor = occupied ? map(occ.getOwner().getColor()) : null;
-            Integer occId = occupied ? occ.getId() : null;
-            out.add(new CellVM(c.getRow(), c.getCol(), map(c.getType()), occupied, occColor, occId));
+        BoardVM board = getBoardVM();
+        List<CellVM> out = new ArrayList<>(board.cellCount());
+        for (int i = 0; i < board.cellCount(); i++) {
+            boolean occupied = board.occupied(i);
+            out.add(new CellVM(board.row(i), board.col(i), board.type(i), occupied,
+                    occupied ? board.occupantColor(i) : null, occupied ? board.occupantId(i) : null));
         }
         return out;
     }
 
     public List<PieceVM> getPieces(PlayerColorVMEnum color) {
-        Player p = (color == PlayerColorVMEnum.BLACK) ? game.getBlack() : game.getWhite();
-        Board b = game.getBoard();
-        List<PieceVM> list = new ArrayList<>();
-        for (Piece pc : p.getPieces()) {
-            boolean onBoard = pc.isOnBoard();
-            boolean finished = pc.isFinished();
-            Integer row = null, col = null;
-            if (onBoard) {
-                Cell cell = b.getTrack().get(pc.getPosition());
-                row = cell.getRow(); col = cell.getCol();
-            }
-            list.add(new PieceVM(pc.getId(), color, onBoard, finished, row, col));
+        GameSnapshot s = game.getSnapshot();
+        List<PieceVM> list = new ArrayList<>(s.piecesPerPlayer());
+        for (int id = 0; id < s.piecesPerPlayer(); id++) {
+            int pos = s.piecePosition(map(color), id);
+            boolean onBoard = pos >= 0;
+            boolean finished = pos == Piece.FINISHED;
+            list.add(new PieceVM(id, color, onBoard, finished, onBoard ? cellRow[pos] : null, onBoard ? cellCol[pos] : null));
         }
         return list;
     }
@@ -187,6 +288,25 @@ public class GameController implements GameObserver {
         return c == PlayerColorEnum.BLACK ? PlayerColorVMEnum.BLACK : PlayerColorVMEnum.WHITE;
     }
 
+    private PlayerColorEnum map(PlayerColorVMEnum c) {
+        return c == PlayerColorVMEnum.BLACK ? PlayerColorEnum.BLACK : PlayerColorEnum.WHITE;
+    }
+
+    private GameEventVMEnum map(GameEventTypeEnum e) {
+        return switch (e) {
+            case INIT -> GameEventVMEnum.INIT;
+            case ENTER_INIT -> GameEventVMEnum.ENTER_INIT;
+            case ROLL -> GameEventVMEnum.ROLL;
+            case ENTER -> GameEventVMEnum.ENTER;
+            case MOVE -> GameEventVMEnum.MOVE;
+            case FINISH -> GameEventVMEnum.FINISH;
+            case PENALTY_POT -> GameEventVMEnum.PENALTY_POT;
+            case BONUS -> GameEventVMEnum.BONUS;
+            case NO_COINS -> GameEventVMEnum.NO_COINS;
+            case TURN -> GameEventVMEnum.TURN;
+        };
+    }
+
     private CellTypeVMEnum map(CellTypeEnum t) {
         return switch (t) {
             case NORMAL -> CellTypeVMEnum.NORMAL;
@@ -0,0 +1,71 @@
+package padroes.projeto.patoli.controller.viewmodel;
+
+import padroes.projeto.patoli.controller.viewmodel.enums.CellTypeVMEnum;
+import padroes.projeto.patoli.controller.viewmodel.enums.PlayerColorVMEnum;
+
+/**
+ * ViewModel do tabuleiro e das peças de uma versão do jogo, em vetores primitivos.
+ * Construído pelo GameController só quando a versão muda; ler não aloca nada.
+ *
+ * Geometria (linha, coluna, tipo) é compartilhada entre versões; por versão
+ * ficam o ocupante de cada casa e o estado de cada peça.
+ */
+public final class BoardVM {
+    // Ocupante da casa: EMPTY ou (cor.ordinal() << 4) | id da peça
+    public static final byte EMPTY = -1;
+    // Estado da peça
+    public static final byte PIECE_RESERVED = 0;
+    public static final byte PIECE_ON_BOARD = 1;
+    public static final byte PIECE_FINISHED = 2;
+
+    private static final PlayerColorVMEnum[] COLORS = PlayerColorVMEnum.values();
+
+    public final long version;
+    private final int[] cellRow;
+    private final int[] cellCol;
+    private final CellTypeVMEnum[] cellType;
+    private final byte[] occupant;
+    // Ids das peças reservadas/finalizadas por cor, com as quantidades
+    private final byte[][] reserved;
+    private final byte[][] finished;
+    private final int[] reservedCount = new int[COLORS.length];
+    private final int[] finishedCount = new int[COLORS.length];
+
+    /**
+     * @param pieceStates estado (PIECE_*) de cada peça, indexado por [cor][id]
+     */
+    public BoardVM(long version, int[] cellRow, int[] cellCol, CellTypeVMEnum[] cellType,
+                   byte[] occupant, byte[][] pieceStates) {
+        this.version = version;
+        this.cellRow = cellRow;
+        this.cellCol = cellCol;
+        this.cellType = cellType;
+        this.occupant = occupant;
+        this.reserved = new byte[COLORS.length][];
+        this.finished = new byte[COLORS.length][];
+        for (int c = 0; c < COLORS.length; c++) {
+            byte[] states = pieceStates[c];
+            reserved[c] = new byte[states.length];
+            finished[c] = new byte[states.length];
+            for (int id = 0; id < states.length; id++) {
+                if (states[id] == PIECE_RESERVED) reserved[c][reservedCount[c]++] = (byte) id;
+                else if (states[id] == PIECE_FINISHED) finished[c][finishedCount[c]++] = (byte) id;
+            }
+        }
+    }
+
+    public int cellCount() { return cellRow.length; }
+    public int row(int cell) { return cellRow[cell]; }
+    public int col(int cell) { return cellCol[cell]; }
+    public CellTypeVMEnum type(int cell) { return cellType[cell]; }
+    public boolean occupied(int cell) { return occupant[cell] != EMPTY; }
+
+    // Cor e id do ocupante (só para casas ocupadas)
+    public PlayerColorVMEnum occupantColor(int cell) { return COLORS[occupant[cell] >>> 4]; }
+    public int occupantId(int cell) { return occupant[cell] & 0xf; }
+
+    public int reservedCount(PlayerColorVMEnum color) { return reservedCount[color.ordinal()]; }
+    public int reservedId(PlayerColorVMEnum color, int k) { return reserved[color.ordinal()][k]; }
+    public int finishedCount(PlayerColorVMEnum color) { return finishedCount[color.ordinal()]; }
+    public int finishedId(PlayerColorVMEnum color, int k) { return finished[color.ordinal()][k]; }
+}
@@ -0,0 +1,14 @@
+package padroes.projeto.patoli.controller.viewmodel.enums;
+
+public enum GameEventVMEnum {
+    INIT,
+    ENTER_INIT,
+    ROLL,
+    ENTER,
+    MOVE,
+    FINISH,
+    PENALTY_POT,
+    BONUS,
+    NO_COINS,
+    TURN
+}
@@ -1,169 +1,156 @@
 package padroes.projeto.patoli.model.board;
 
-import padroes.projeto.patoli.model.board.enums.CellTypeEnum;
 import padroes.projeto.patoli.model.board.enums.PlayerColorEnum;
 import padroes.projeto.patoli.model.board.layout.BoardLayout;
-import padroes.projeto.patoli.model.board.layout.Cross2x2Layout16;
 
-import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.EnumMap;
-import java.util.HashSet;
 import java.util.List;
-import java.util.Map;
-import java.util.Set;
 
 public class Board {
-    // Tabuleiro com layout configurável
-    private final List<Cell> track = new ArrayList<>();
-    private final Map<PlayerColorEnum, Integer> startIndex = new EnumMap<>(PlayerColorEnum.class);
-    private final Set<Integer> endpoints = new HashSet<>();
-    private final Set<Integer> trianglePenalty = new HashSet<>();
+    // Geometria compartilhada (imutável); aqui fica só a ocupação desta partida
+    private final BoardTopology topology;
+    private final Piece[] occupants;
 
-    private final int rows;
-    private final int cols;
+    // Bitboards de ocupação por cor (bit i = casa i do track)
+    private final int words;
+    private final long[][] occupancy;
 
     public Board() {
-        this(new Cross2x2Layout16());
+        this(BoardTopology.defaultTopology());
     }
 
     public Board(BoardLayout layout) {
-        this.rows = layout.getRows();
-        this.cols = layout.getCols();
+        this(BoardTopology.of(layout));
+    }
 
-        List<int[]> coords = layout.getTrackCoords();
+    public Board(BoardTopology topology) {
+        this.topology = topology;
+        this.occupants = new Piece[topology.size()];
+        this.words = topology.bitboardWords();
+        this.occupancy = new long[PlayerColorEnum.values().length][words];
+    }
 
-        // Criar caminho (track)
-        for (int i = 0; i < coords.size(); i++) {
-            int r = coords.get(i)[0];
-            int c = coords.get(i)[1];
-            track.add(new Cell(i, r, c, CellTypeEnum.NORMAL));
-        }
+    private int mod(int a, int n) {
+        int m = a % n;
+        return m < 0 ? m + n : m;
+    }
 
-        // ENDPOINTs via layout
-        for (int[] ep : layout.getEndpointCoords()) {
-            int idx = indexOfCoord(coords, ep[0], ep[1]);
-            if (idx >= 0) {
-                endpoints.add(idx);
-                setCellType(idx, CellTypeEnum.ENDPOINT);
-            }
-        }
+    public BoardTopology getTopology() { return topology; }
+    public List<Cell> getTrack() { return topology.getTrack(); }
+    public int getRows() { return topology.getRows(); }
+    public int getCols() { return topology.getCols(); }
 
-        // Marcação de casas de punição por COORDENADAS (cobre ida e volta)
-        trianglePenalty.clear();
-        Set<Long> penaltyCoords = new HashSet<>();
-        for (int epIndex : endpoints) {
-            Cell epCell = track.get(epIndex);
-            int r = epCell.getRow();
-            int c = epCell.getCol();
-
-            // Topo
-            if (r == 0) {
-                addPenaltyCoord(penaltyCoords, 1, c);
-                addPenaltyCoord(penaltyCoords, 2, c);
-            }
-            // Base
-            if (r == rows - 1) {
-                addPenaltyCoord(penaltyCoords, rows - 2, c);
-                addPenaltyCoord(penaltyCoords, rows - 3, c);
-            }
-            // Esquerda
-            if (c == 0) {
-                addPenaltyCoord(penaltyCoords, r, 1);
-                addPenaltyCoord(penaltyCoords, r, 2);
-            }
-            // Direita
-            if (c == cols - 1) {
-                addPenaltyCoord(penaltyCoords, r, cols - 2);
-                addPenaltyCoord(penaltyCoords, r, cols - 3);
-            }
-        }
+    public int getStartIndex(PlayerColorEnum color) {
+        return topology.getStartIndex(color);
+    }
 
-        // Converter coordenadas de punição em índices do track e marcar
-        for (long key : penaltyCoords) {
-            int pr = (int)(key >> 32);
-            int pc = (int)(key & 0xffffffffL);
-            int idx = indexOfCoord(coords, pr, pc);
-            if (idx >= 0 && !endpoints.contains(idx)) {
-                trianglePenalty.add(idx);
-                setCellType(idx, CellTypeEnum.TRIANGLE_PENALTY);
-            }
-        }
+    // Tipo (BoardTopology.TYPE_MASK) e efeitos (FLAG_PENALTY, FLAG_EXTRA_TURN) da casa do track
+    public int cellFlags(int idx) { return topology.cellFlags(idx); }
 
-        // STARTs por cor via layout
-        for (PlayerColorEnum color : PlayerColorEnum.values()) {
-            int[] st = layout.getStartForColor(color);
-            int idx = indexOfCoord(coords, st[0], st[1]);
-            if (idx >= 0) {
-                setCellType(idx, CellTypeEnum.START);
-                startIndex.put(color, idx);
-            }
-        }
-        // fallback
-        for (PlayerColorEnum color : PlayerColorEnum.values()) {
-            startIndex.putIfAbsent(color, 0);
-        }
-    }
+    public boolean isEndpoint(int idx) { return topology.isEndpoint(idx); }
+    public boolean isTriangle(int idx) { return topology.isTriangle(idx); }
 
-    private void addPenaltyCoord(Set<Long> set, int r, int c) {
-        if (r < 0 || c < 0 || r >= rows || c >= cols) return;
-        long key = (((long) r) << 32) | (c & 0xffffffffL);
-        set.add(key);
+    public boolean canPlaceAtStart(Player player) {
+        return isFree(getStartIndex(player.getColor()));
     }
 
+    // Peça na casa do track, ou null
+    public Piece getOccupant(int index) {
+        return occupants[index];
+    }
 
+    public boolean isFree(int index) {
+        int w = index >>> 6;
+        return ((occupancy[0][w] | occupancy[1][w]) & (1L << index)) == 0;
+    }
 
-    private void setCellType(int index, CellTypeEnum type) {
-        Cell old = track.get(index);
-        Cell cell = new Cell(old.getIndex(), old.getRow(), old.getCol(), type);
-        cell.setOccupant(old.getOccupant());
-        track.set(index, cell);
+    public boolean isOccupiedBy(int index, PlayerColorEnum color) {
+        return (occupancy[color.ordinal()][index >>> 6] & (1L << index)) != 0;
     }
 
-    private int mod(int a, int n) {
-        int m = a % n;
-        return m < 0 ? m + n : m;
+    public void occupy(int index, Piece piece) {
+        occupants[index] = piece;
+        occupancy[piece.getOwner().getColor().ordinal()][index >>> 6] |= 1L << index;
     }
 
-    public List<Cell> getTrack() { return track; }
-    public int getRows() { return rows; }
-    public int getCols() { return cols; }
+    public void free(int index) {
+        occupants[index] = null;
+        long clear = ~(1L << index);
+        occupancy[0][index >>> 6] &= clear;
+        occupancy[1][index >>> 6] &= clear;
+    }
 
-    public int getStartIndex(PlayerColorEnum color) {
-        return startIndex.get(color);
+    // Quantidade de longs de cada bitboard (bit i = casa i do track)
+    public int bitboardWords() { return words; }
+
+    /**
+     * Copia para 'out' as casas livres alcançadas ao avançar 'steps' a partir de
+     * cada peça da cor (rotação do bitboard + máscara de livres, palavra a palavra).
+     * Não considera a finalização na START: isso fica com MovementRules.
+     */
+    public void freeDestinations(PlayerColorEnum color, int steps, long[] out) {
+        long[] own = occupancy[color.ordinal()];
+        int n = size();
+        int k = mod(steps, n);
+        Arrays.fill(out, 0, words, 0L);
+        shiftLeftInto(own, k, out);
+        shiftRightInto(own, n - k, out);
+        long[] other = occupancy[1 - color.ordinal()];
+        for (int w = 0; w < words; w++) {
+            out[w] &= ~(own[w] | other[w]);
+        }
+        int tail = n & 63;
+        if (tail != 0) out[words - 1] &= (1L << tail) - 1;
     }
 
-    public boolean isEndpoint(int idx) { return endpoints.contains(idx); }
-    public boolean isTriangle(int idx) { return trianglePenalty.contains(idx); }
+    // Alguma peça da cor está numa casa de punição?
+    public boolean hasPieceOnTriangle(PlayerColorEnum color) {
+        return intersects(color, topology.triangleBits());
+    }
 
-    public boolean canPlaceAtStart(Player player) {
-        int idx = getStartIndex(player.getColor());
-        return track.get(idx).isFree();
+    // Alguma peça da cor está numa das casas de 'cells' (bitboard com bitboardWords() longs)?
+    public boolean intersects(PlayerColorEnum color, long[] cells) {
+        long[] own = occupancy[color.ordinal()];
+        for (int w = 0; w < words; w++) {
+            if ((own[w] & cells[w]) != 0) return true;
+        }
+        return false;
     }
 
-    public boolean isFree(int index) {
-        return track.get(index).isFree();
+    public int countOccupied(PlayerColorEnum color) {
+        int total = 0;
+        for (long bits : occupancy[color.ordinal()]) total += Long.bitCount(bits);
+        return total;
     }
 
-    public void occupy(int index, Piece piece) {
-        track.get(index).setOccupant(piece);
+    // out |= src << k (k em bits; bits além do tamanho do track são descartados depois)
+    private void shiftLeftInto(long[] src, int k, long[] out) {
+        int ws = k >>> 6, bs = k & 63;
+        for (int w = words - 1; w >= ws; w--) {
+            long v = src[w - ws] << bs;
+            if (bs != 0 && w - ws - 1 >= 0) v |= src[w - ws - 1] >>> (64 - bs);
+            out[w] |= v;
+        }
     }
 
-    public void free(int index) {
-        track.get(index).setOccupant(null);
+    // out |= src >>> k
+    private void shiftRightInto(long[] src, int k, long[] out) {
+        int ws = k >>> 6, bs = k & 63;
+        for (int w = 0; w + ws < words; w++) {
+            long v = src[w + ws] >>> bs;
+            if (bs != 0 && w + ws + 1 < words) v |= src[w + ws + 1] << (64 - bs);
+            out[w] |= v;
+        }
     }
 
-    public int size() { return track.size(); }
+    public int size() { return occupants.length; }
 
     public int advanceIndex(int from, int steps) {
         return mod(from + steps, size());
     }
 
-    private int indexOfCoord(List<int[]> coords, int r, int c) {
-        for (int i = 0; i < coords.size(); i++) {
-            int[] p = coords.get(i);
-            if (p[0] == r && p[1] == c) return i;
-        }
-        return -1;
+    // Índice no track da coordenada (row, col), ou -1 se ela não faz parte do caminho
+    public int indexAt(int row, int col) {
+        return topology.indexAt(row, col);
     }
-}
\ No newline at end of file
+}
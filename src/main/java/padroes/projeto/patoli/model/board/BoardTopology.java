@@ -0,0 +1,168 @@
+package padroes.projeto.patoli.model.board;
+
+import padroes.projeto.patoli.model.board.enums.CellTypeEnum;
+import padroes.projeto.patoli.model.board.enums.PlayerColorEnum;
+import padroes.projeto.patoli.model.board.layout.BoardLayout;
+import padroes.projeto.patoli.model.board.layout.Cross2x2Layout16;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Geometria imutável do tabuleiro: trilha, STARTs, tipo/efeito de cada casa e
+ * índice de coordenadas. Construída uma vez por layout (BoardLayout.getId()) e
+ * compartilhada por todas as partidas; a ocupação fica em cada Board.
+ */
+public final class BoardTopology {
+    // Atributos por casa (cellFlags): bits 0..1 = CellTypeEnum.ordinal(), mais os efeitos ao pousar
+    public static final int TYPE_MASK = 0x3;
+    public static final int FLAG_PENALTY = 1 << 2;
+    public static final int FLAG_EXTRA_TURN = 1 << 3;
+
+    private static final CellTypeEnum[] CELL_TYPES = CellTypeEnum.values();
+    private static final Map<String, BoardTopology> INTERNED = new ConcurrentHashMap<>();
+    private static final BoardTopology DEFAULT = of(new Cross2x2Layout16());
+
+    private final String id;
+    private final List<Cell> track;
+    private final int[] startIndex = new int[PlayerColorEnum.values().length];
+    // Tipo + efeitos de cada casa do track (uma leitura por pouso)
+    private final byte[] cellFlags;
+
+    private final int rows;
+    private final int cols;
+    // Índice denso (row * cols + col) -> índice no track, ou -1 fora do caminho
+    private final int[] coordIndex;
+
+    // Casas de punição como bitboard (bit i = casa i do track)
+    private final int words;
+    private final long[] triangleBits;
+
+    // Topologia compartilhada do layout (construída na primeira chamada para cada id)
+    public static BoardTopology of(BoardLayout layout) {
+        return INTERNED.computeIfAbsent(layout.getId(), id -> new BoardTopology(layout));
+    }
+
+    // Layout padrão (Cross2x2Layout16)
+    public static BoardTopology defaultTopology() {
+        return DEFAULT;
+    }
+
+    /**
+     * Topologia de um id gravado em arquivo (log, checkpoint), ou null se não puder
+     * ser restaurada. Game só constrói o tabuleiro padrão, então só esse id é aceito.
+     */
+    public static BoardTopology resolve(String id) {
+        return DEFAULT.getId().equals(id) ? DEFAULT : null;
+    }
+
+    private BoardTopology(BoardLayout layout) {
+        this.id = layout.getId();
+        this.rows = layout.getRows();
+        this.cols = layout.getCols();
+
+        List<int[]> coords = layout.getTrackCoords();
+        this.coordIndex = new int[rows * cols];
+        Arrays.fill(coordIndex, -1);
+
+        int n = coords.size();
+        for (int i = 0; i < n; i++) {
+            int r = coords.get(i)[0];
+            int c = coords.get(i)[1];
+            if (indexAt(r, c) < 0) coordIndex[r * cols + c] = i;
+        }
+        this.cellFlags = new byte[n];
+        this.words = (n + 63) >>> 6;
+        this.triangleBits = new long[words];
+
+        // ENDPOINTs via layout
+        List<int[]> endpointCoords = layout.getEndpointCoords();
+        for (int[] ep : endpointCoords) {
+            int idx = indexAt(ep[0], ep[1]);
+            if (idx >= 0) cellFlags[idx] = (byte) (CellTypeEnum.ENDPOINT.ordinal() | FLAG_EXTRA_TURN);
+        }
+
+        // Marcação de casas de punição por COORDENADAS (cobre ida e volta)
+        for (int[] ep : endpointCoords) {
+            if (indexAt(ep[0], ep[1]) < 0) continue;
+            int r = ep[0];
+            int c = ep[1];
+
+            // Topo
+            if (r == 0) {
+                markPenalty(1, c);
+                markPenalty(2, c);
+            }
+            // Base
+            if (r == rows - 1) {
+                markPenalty(rows - 2, c);
+                markPenalty(rows - 3, c);
+            }
+            // Esquerda
+            if (c == 0) {
+                markPenalty(r, 1);
+                markPenalty(r, 2);
+            }
+            // Direita
+            if (c == cols - 1) {
+                markPenalty(r, cols - 2);
+                markPenalty(r, cols - 3);
+            }
+        }
+
+        // STARTs por cor via layout (o tipo START prevalece; efeitos são mantidos; fallback: casa 0)
+        for (PlayerColorEnum color : PlayerColorEnum.values()) {
+            int[] st = layout.getStartForColor(color);
+            int idx = indexAt(st[0], st[1]);
+            if (idx >= 0) {
+                cellFlags[idx] = (byte) ((cellFlags[idx] & ~TYPE_MASK) | CellTypeEnum.START.ordinal());
+                startIndex[color.ordinal()] = idx;
+            }
+        }
+
+        // Criar caminho (track), já com o tipo final de cada casa
+        List<Cell> cells = new ArrayList<>(n);
+        for (int i = 0; i < n; i++) {
+            cells.add(new Cell(i, coords.get(i)[0], coords.get(i)[1], CELL_TYPES[cellFlags[i] & TYPE_MASK]));
+        }
+        this.track = List.copyOf(cells);
+    }
+
+    private void markPenalty(int r, int c) {
+        int idx = indexAt(r, c);
+        if (idx < 0 || (cellFlags[idx] & FLAG_EXTRA_TURN) != 0) return;
+        cellFlags[idx] = (byte) (CellTypeEnum.TRIANGLE_PENALTY.ordinal() | FLAG_PENALTY);
+        triangleBits[idx >>> 6] |= 1L << idx;
+    }
+
+    public String getId() { return id; }
+    public List<Cell> getTrack() { return track; }
+    public int getRows() { return rows; }
+    public int getCols() { return cols; }
+    public int size() { return cellFlags.length; }
+
+    public int getStartIndex(PlayerColorEnum color) {
+        return startIndex[color.ordinal()];
+    }
+
+    // Tipo (TYPE_MASK) e efeitos (FLAG_PENALTY, FLAG_EXTRA_TURN) da casa do track
+    public int cellFlags(int idx) { return cellFlags[idx]; }
+
+    public boolean isEndpoint(int idx) { return (cellFlags[idx] & FLAG_EXTRA_TURN) != 0; }
+    public boolean isTriangle(int idx) { return (cellFlags[idx] & FLAG_PENALTY) != 0; }
+
+    // Quantidade de longs de cada bitboard (bit i = casa i do track)
+    public int bitboardWords() { return words; }
+
+    // Bitboard das casas de punição (não modificar)
+    long[] triangleBits() { return triangleBits; }
+
+    // Índice no track da coordenada (row, col), ou -1 se ela não faz parte do caminho
+    public int indexAt(int row, int col) {
+        if (row < 0 || col < 0 || row >= rows || col >= cols) return -1;
+        return coordIndex[row * cols + col];
+    }
+}
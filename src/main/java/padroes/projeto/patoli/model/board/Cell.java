@@ -2,12 +2,12 @@ package padroes.projeto.patoli.model.board;
 
 import padroes.projeto.patoli.model.board.enums.CellTypeEnum;
 
+// Casa da trilha (imutável, compartilhada via BoardTopology); a ocupação fica em Board
 public class Cell {
     private final int index;
     private final int row;
     private final int col;
     private final CellTypeEnum type;
-    private Piece occupant;
 
     public Cell(int index, int row, int col, CellTypeEnum type) {
         this.index = index;
@@ -20,9 +20,4 @@ public class Cell {
     public int getRow() { return row; }
     public int getCol() { return col; }
     public CellTypeEnum getType() { return type; }
-
-    public Piece getOccupant() { return occupant; }
-    public void setOccupant(Piece occupant) { this.occupant = occupant; }
-
-    public boolean isFree() { return occupant == null; }
 }
@@ -25,23 +25,35 @@ public class Piece {
     public boolean isFinished() { return position == FINISHED; }
 
     public void placeAtStart(int startIndex) {
-        this.position = startIndex;
+        setPosition(startIndex);
         this.direction = +1; // começa seguindo a ordem crescente dos índices (ida)
     }
 
     public void moveTo(int index) {
-        this.position = index;
+        setPosition(index);
     }
 
     public void finish() {
-        this.position = FINISHED;
+        setPosition(FINISHED);
     }
 
     public void resetOffBoard() {
-        this.position = OFF_BOARD;
+        setPosition(OFF_BOARD);
         this.direction = +1;
     }
 
+    // Restaura posição/direção diretamente (ex.: GameState); não mexe no tabuleiro
+    public void restore(int position, int direction) {
+        setPosition(position);
+        setDirection(direction);
+    }
+
+    // Toda mudança de posição passa aqui para manter os contadores do dono
+    private void setPosition(int position) {
+        owner.onPieceMoved(this.position, position);
+        this.position = position;
+    }
+
     public int getDirection() {
         return direction;
     }
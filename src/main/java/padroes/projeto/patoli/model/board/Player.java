@@ -11,12 +11,18 @@ public class Player {
     private int coins = 10;
     private final List<Piece> pieces = new ArrayList<>();
 
+    // Contadores incrementais por situação das peças (mantidos por Piece)
+    private int onBoard;
+    private int offBoard;
+    private int finished;
+
     public Player(String name, PlayerColorEnum color) {
         this.name = name;
         this.color = color;
         for (int i = 0; i < 3; i++) {
             pieces.add(new Piece(i, this));
         }
+        offBoard = pieces.size();
     }
 
     public String getName() { return name; }
@@ -28,10 +34,29 @@ public class Player {
     public List<Piece> getPieces() { return pieces; }
 
     public long countFinished() {
-        return pieces.stream().filter(Piece::isFinished).count();
+        return finished;
+    }
+
+    public int countOnBoard() {
+        return onBoard;
+    }
+
+    public int countOffBoard() {
+        return offBoard;
     }
 
     public boolean allFinished() {
-        return countFinished() == pieces.size();
+        return finished == pieces.size();
+    }
+
+    void onPieceMoved(int from, int to) {
+        count(from, -1);
+        count(to, +1);
+    }
+
+    private void count(int position, int delta) {
+        if (position == Piece.FINISHED) finished += delta;
+        else if (position == Piece.OFF_BOARD) offBoard += delta;
+        else onBoard += delta;
     }
 }
@@ -5,6 +5,8 @@ import padroes.projeto.patoli.model.board.enums.PlayerColorEnum;
 import java.util.List;
 
 public interface BoardLayout {
+    // Identificador estável da geometria: layouts com o mesmo id compartilham a BoardTopology
+    String getId();
     int getRows();
     int getCols();
     // Lista de coordenadas (row, col) que formam o caminho, em ordem
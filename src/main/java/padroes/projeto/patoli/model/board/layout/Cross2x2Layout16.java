@@ -8,6 +8,9 @@ public class Cross2x2Layout16 implements BoardLayout {
     private final int rows = 16;
     private final int cols = 16;
 
+    @Override
+    public String getId() { return "cross-2x2-16"; }
+
     @Override
     public int getRows() { return rows; }
 
@@ -1,21 +1,83 @@
 package padroes.projeto.patoli.model.game;
 
-import java.util.Random;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.random.RandomGenerator;
 
+/**
+ * As 5 moedas do Patolli. A rolagem é a quantidade de lados pintados (0..5),
+ * obtida com um único sorteio: popcount de 5 bits aleatórios.
+ *
+ * A fonte de aleatoriedade é plugável (RandomGenerator). Com semente, a sequência
+ * é reproduzível; split() cria dados com fluxo independente para outro worker.
+ */
 public class CoinDice {
-    private final Random random = new Random();
+    // Quantidade de moedas lançadas (rolagem = lados pintados, 0..COINS)
+    public static final int COINS = 5;
+    // Binomial(5, 1/2): combinações de cada resultado em 2^5
+    private static final int[] OUTCOMES = {1, 5, 10, 10, 5, 1};
+    private static final int COIN_MASK = (1 << COINS) - 1;
+    // Rolagens extraídas de cada long em fillRolls (12 x 5 bits)
+    private static final int ROLLS_PER_LONG = Long.SIZE / COINS;
+
+    // Sementes distintas para dados criados sem semente explícita
+    private static final AtomicLong SEED_UNIQUIFIER = new AtomicLong(System.nanoTime());
+
+    private final RandomGenerator random;
     private int lastRoll = 0;
 
+    public CoinDice() {
+        this(SEED_UNIQUIFIER.addAndGet(0x9E3779B97F4A7C15L) ^ System.nanoTime());
+    }
+
+    // Semente fixa: mesma sequência de rolagens (simulações reproduzíveis)
+    public CoinDice(long seed) {
+        this(new SplitMix64(seed));
+    }
+
+    // Fonte arbitrária (ex.: SplittableRandom, L64X128MixRandom)
+    public CoinDice(RandomGenerator random) {
+        this.random = random;
+    }
+
+    public RandomGenerator getRandom() {
+        return random;
+    }
+
     public int roll() {
-        int paintedUp = 0;
-        for (int i = 0; i < 5; i++) {
-            boolean painted = random.nextBoolean(); // true ~ lado pintado
-            if (painted) paintedUp++;
-        }
-        lastRoll = paintedUp; // 0..5
+        lastRoll = Integer.bitCount(random.nextInt() & COIN_MASK); // 0..5
         return lastRoll;
     }
 
+    /**
+     * Preenche 'rolls' com rolagens independentes (12 rolagens por long sorteado).
+     * Não altera getLastRoll().
+     */
+    public void fillRolls(int[] rolls) {
+        int i = 0;
+        while (i < rolls.length) {
+            long bits = random.nextLong();
+            int end = Math.min(rolls.length, i + ROLLS_PER_LONG);
+            for (; i < end; i++) {
+                rolls[i] = Long.bitCount(bits & COIN_MASK);
+                bits >>>= COINS;
+            }
+        }
+    }
+
+    /**
+     * Dados com fluxo independente (para outro worker/partida paralela).
+     */
+    public CoinDice split() {
+        if (random instanceof SplitMix64 sm) return new CoinDice(sm.split());
+        if (random instanceof RandomGenerator.SplittableGenerator sg) return new CoinDice(sg.split());
+        return new CoinDice(new SplitMix64(random.nextLong()));
+    }
+
+    // Probabilidade exata de cada resultado (0..5)
+    public static double probability(int roll) {
+        return OUTCOMES[roll] / (double) (1 << COINS);
+    }
+
     public int getLastRoll() {
         return lastRoll;
     }
@@ -4,16 +4,35 @@ import padroes.projeto.patoli.model.board.Board;
 import padroes.projeto.patoli.model.board.Piece;
 import padroes.projeto.patoli.model.board.Player;
 import padroes.projeto.patoli.model.board.enums.PlayerColorEnum;
+import padroes.projeto.patoli.model.game.enums.GameEventTypeEnum;
+import padroes.projeto.patoli.model.game.rules.CompiledMovementRules;
 import padroes.projeto.patoli.model.game.rules.MovementRules;
 import padroes.projeto.patoli.model.game.rules.ScoringRules;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
-import java.util.Optional;
 
 public class Game implements GameObservable {
+    // Codificação de jogadas: id da peça (0..) ou MOVE_ENTER (inserir nova peça na START)
+    public static final int MOVE_ENTER = -1;
+    // Máscara de jogadas: bit i = peça de id i; ENTER_BIT = inserir nova peça
+    public static final int ENTER_BIT = 1 << 30;
+    // Para applyMove: apenas encerra o turno (sem jogada válida)
+    public static final int MOVE_PASS = -2;
+
+    // Registro de desfazer (long) usado por applyMove/applyChance/undoMove:
+    // bits 0..1 tipo | 2..5 peça | 6..13 origem | 14..21 destino | 22 direção anterior (-1)
+    // 23..25 rolagem anterior + 1 | 26 turno extra anterior | 27 vez anterior era WHITE
+    // 28..31 / 32..35 / 36..39 deltas (+8) de moedas BLACK, WHITE e do pote
+    private static final int UNDO_MOVE = 0;
+    private static final int UNDO_FINISH = 1;
+    private static final int UNDO_ENTER = 2;
+    private static final int UNDO_NONE = 3;
+    private static final int DELTA_BIAS = 8;
+
     private final Board board = new Board();
-    private final CoinDice dice = new CoinDice();
+    private final CoinDice dice;
 
     private final Player black;
     private final Player white;
@@ -26,28 +45,139 @@ public class Game implements GameObservable {
     private int pot = 0;
     private boolean potSettled = false;
 
-    // Regras extraídas
-    private final MovementRules movementRules = new MovementRules();
+    // Hash Zobrist da posição, mantido incrementalmente a cada mudança de estado
+    private long zobristKey;
+
+    // Versão do estado: incrementada a cada mudança (chave de caches)
+    private long version;
+
+    // Cache das jogadas válidas para (versão, rolagem)
+    private long cachedMovesVersion = -1;
+    private int cachedMovesRoll;
+    private int cachedMoveMask;
+
+    // Regras extraídas (movimento pré-compilado em tabelas, compartilhadas entre partidas)
+    private final MovementRules movementRules = CompiledMovementRules.forBoard(board);
     private final ScoringRules scoringRules = new ScoringRules();
 
-    // Observers
-    private final List<GameObserver> observers = new ArrayList<>();
+    // Observers (copy-on-write: notificar não copia a lista)
+    private static final GameObserver[] NO_OBSERVERS = new GameObserver[0];
+    private volatile GameObserver[] observers = NO_OBSERVERS;
+    // Durante applyMove/undoMove (busca), nenhuma notificação é disparada
+    private boolean silent = false;
+
+    // Eventos pendentes da transação corrente (lotes reutilizados, sem alocação)
+    private GameEventBatch pendingEvents = new GameEventBatch();
+    private GameEventBatch spareEvents = new GameEventBatch();
+    private int transactionDepth;
+
+    // Gravação opcional dos comandos (log binário); ignorada em modo silencioso
+    private GameRecorder recorder;
+
+    // Retrato imutável publicado ao fim de cada comando (se habilitado)
+    private boolean publishSnapshots;
+    private volatile GameSnapshot snapshot;
 
     @Override
-    public void addObserver(GameObserver observer) {
-        if (observer != null) observers.add(observer);
+    public synchronized void addObserver(GameObserver observer) {
+        if (observer == null) return;
+        GameObserver[] next = Arrays.copyOf(observers, observers.length + 1);
+        next[next.length - 1] = observer;
+        observers = next;
     }
 
     @Override
-    public void removeObserver(GameObserver observer) { observers.remove(observer); }
+    public synchronized void removeObserver(GameObserver observer) {
+        GameObserver[] current = observers;
+        for (int i = 0; i < current.length; i++) {
+            if (current[i] != observer) continue;
+            GameObserver[] next = new GameObserver[current.length - 1];
+            System.arraycopy(current, 0, next, 0, i);
+            System.arraycopy(current, i + 1, next, i, next.length - i);
+            observers = next;
+            return;
+        }
+    }
 
-    private void notifyObservers(String reason) {
-        for (GameObserver o : List.copyOf(observers)) {
-            o.onGameChanged(this, reason);
+    /**
+     * Abre uma transação: os eventos até o commitTransaction correspondente são
+     * entregues aos observers num único lote. Transações podem ser aninhadas.
+     */
+    public void beginTransaction() {
+        transactionDepth++;
+    }
+
+    public void commitTransaction() {
+        if (transactionDepth == 0) throw new IllegalStateException("Nenhuma transação aberta");
+        if (--transactionDepth == 0) flushEvents();
+    }
+
+    private void notifyObservers(GameEventTypeEnum type) {
+        if (silent) return;
+        if (observers.length != 0) pendingEvents.add(type);
+        if (transactionDepth == 0) flushEvents();
+    }
+
+    // Fim de comando: publica o retrato e entrega os eventos pendentes
+    private void flushEvents() {
+        publishSnapshot();
+        // Eventos gerados por observers durante a entrega vão para o próximo lote
+        while (!pendingEvents.isEmpty()) {
+            GameEventBatch batch = pendingEvents;
+            pendingEvents = spareEvents;
+            spareEvents = batch;
+            transactionDepth++;
+            try {
+                for (GameObserver o : observers) {
+                    o.onGameChanged(this, batch);
+                }
+            } finally {
+                transactionDepth--;
+                batch.clear();
+            }
+            publishSnapshot();
         }
     }
 
+    /**
+     * Liga a publicação de GameSnapshot ao fim de cada comando (desligada por padrão:
+     * simulação e busca não pagam pela alocação). Deve ser chamado na thread do jogo.
+     */
+    public void setSnapshotPublishing(boolean enabled) {
+        publishSnapshots = enabled;
+        snapshot = null;
+        publishSnapshot();
+    }
+
+    /**
+     * Último retrato publicado (uma leitura volatile, de qualquer thread);
+     * null se a publicação estiver desligada.
+     */
+    public GameSnapshot getSnapshot() {
+        return snapshot;
+    }
+
+    private void publishSnapshot() {
+        if (!publishSnapshots || silent) return;
+        GameSnapshot last = snapshot;
+        if (last == null || last.version() != version) snapshot = GameSnapshot.of(this);
+    }
+
+    public void setRecorder(GameRecorder recorder) {
+        this.recorder = recorder;
+    }
+
+    private boolean recording() {
+        return recorder != null && !silent;
+    }
+
     public Game(String blackName, String whiteName) {
+        this(blackName, whiteName, new CoinDice());
+    }
+
+    // Permite injetar os "dados" (ex.: semente fixa em simulações headless)
+    public Game(String blackName, String whiteName, CoinDice dice) {
+        this.dice = dice;
         this.black = new Player(blackName, PlayerColorEnum.BLACK);
         this.white = new Player(whiteName, PlayerColorEnum.WHITE);
         int r1 = dice.roll();
@@ -55,22 +185,65 @@ public class Game implements GameObservable {
         current = r1 >= r2 ? black : white;
         lastRoll = -1;
         initializeStartingPieces();
-        notifyObservers("INIT");
+        zobristKey = Zobrist.compute(this);
+        notifyObservers(GameEventTypeEnum.INIT);
+    }
+
+    // Retomada (GameCheckpoint): posição dada, sem o sorteio inicial (não consome os dados)
+    Game(String blackName, String whiteName, CoinDice dice, GameState state) {
+        this.dice = dice;
+        this.black = new Player(blackName, PlayerColorEnum.BLACK);
+        this.white = new Player(whiteName, PlayerColorEnum.WHITE);
+        this.current = black;
+        state.applyTo(this);
     }
 
     public Board getBoard() { return board; }
+    public CoinDice getDice() { return dice; }
     public Player getBlack() { return black; }
     public Player getWhite() { return white; }
     public Player getCurrent() { return current; }
     public Player getOpponent() { return current == black ? white : black; }
     public int getLastRoll() { return lastRoll; }
     public int getPot() { return pot; }
+    public boolean isExtraTurn() { return extraTurn; }
+    public boolean isPotSettled() { return potSettled; }
+    public long getZobristKey() { return zobristKey; }
+    public long getVersion() { return version; }
+
+    // Posição compacta (dois longs) para busca/simulação
+    public GameState captureState() {
+        return GameState.of(this);
+    }
+
+    public void restoreState(GameState state) {
+        state.applyTo(this);
+        publishSnapshot();
+    }
+
+    // Usado por GameState ao restaurar a posição (não notifica observers)
+    void restoreTurn(Player current, int lastRoll, boolean extraTurn, int pot, boolean potSettled) {
+        this.current = current;
+        this.lastRoll = lastRoll;
+        this.extraTurn = extraTurn;
+        this.pot = pot;
+        this.potSettled = potSettled;
+        this.zobristKey = Zobrist.compute(this);
+        version++;
+    }
 
     public int roll() {
-        int val = dice.roll();
-        lastRoll = val;
-        extraTurn = false;
-        notifyObservers("ROLL");
+        return applyRoll(dice.roll());
+    }
+
+    // Aplica uma rolagem conhecida (0..5) sem consultar os dados (busca, replay)
+    public int applyRoll(int val) {
+        if (val < 0 || val > CoinDice.COINS) throw new IllegalArgumentException("Rolagem inválida: " + val);
+        setLastRoll(val);
+        setExtraTurn(false);
+        version++;
+        if (recording()) recorder.onRoll(val);
+        notifyObservers(GameEventTypeEnum.ROLL);
         return val;
     }
 
@@ -82,14 +255,11 @@ public class Game implements GameObservable {
     private void placeInitialPiece(Player player) {
         int start = board.getStartIndex(player.getColor());
         if (!board.isFree(start)) return;
-        Optional<Piece> opt = player.getPieces().stream()
-                .filter(pc -> !pc.isFinished() && !pc.isOnBoard())
-                .findFirst();
-        if (opt.isEmpty()) return;
-        Piece p = opt.get();
+        Piece p = getFirstOffBoardPiece(player);
+        if (p == null) return;
         p.placeAtStart(start);
         board.occupy(start, p);
-        notifyObservers("ENTER_INIT");
+        notifyObservers(GameEventTypeEnum.ENTER_INIT);
     }
 
     public boolean canEnterNewPiece() {
@@ -99,27 +269,197 @@ public class Game implements GameObservable {
     public boolean enterNewPiece() {
         if (!canEnterNewPiece()) return false;
         int start = board.getStartIndex(current.getColor());
-        Piece p = getFirstOffBoardPiece(current).orElse(null);
+        Piece p = getFirstOffBoardPiece(current);
         if (p == null) return false;
-        p.placeAtStart(start);
-        board.occupy(start, p);
-        applyLandingRules(p, start);
-        notifyObservers("ENTER");
+        beginTransaction();
+        try {
+            p.placeAtStart(start);
+            board.occupy(start, p);
+            zobristKey ^= Zobrist.cell(current.getColor(), start);
+            version++;
+            if (recording()) recorder.onMove(MOVE_ENTER);
+            notifyObservers(GameEventTypeEnum.ENTER);
+            applyLandingRules(p, start);
+        } finally {
+            commitTransaction();
+        }
         return true;
     }
 
     public List<Piece> movablePieces() {
         List<Piece> list = new ArrayList<>();
-        if (lastRoll <= 0) return list;
+        int mask = legalMoveMask();
         for (Piece p : current.getPieces()) {
-            if (p.isFinished()) continue;
-            if (!p.isOnBoard()) continue;
-            int dest = computeDestination(p.getPosition(), lastRoll);
-            if (dest == Piece.FINISHED || (dest >= 0 && board.isFree(dest))) list.add(p);
+            if ((mask & (1 << p.getId())) != 0) list.add(p);
         }
         return list;
     }
 
+    /**
+     * Jogadas válidas do jogador atual como máscara de bits (sem alocação):
+     * bit i = peça de id i pode mover; ENTER_BIT = pode inserir nova peça.
+     * O resultado fica em cache até o estado (versão) ou a rolagem mudar.
+     */
+    public int legalMoveMask() {
+        if (cachedMovesVersion == version && cachedMovesRoll == lastRoll) return cachedMoveMask;
+        int mask = 0;
+        if (lastRoll > 0) {
+            List<Piece> pieces = current.getPieces();
+            for (int i = 0; i < pieces.size(); i++) {
+                Piece p = pieces.get(i);
+                if (!p.isOnBoard()) continue;
+                int dest = computeDestination(p.getPosition(), lastRoll);
+                if (dest == Piece.FINISHED || (dest >= 0 && board.isFree(dest))) mask |= 1 << p.getId();
+            }
+            if (canEnterNewPiece()) mask |= ENTER_BIT;
+        }
+        cachedMovesVersion = version;
+        cachedMovesRoll = lastRoll;
+        cachedMoveMask = mask;
+        return mask;
+    }
+
+    /**
+     * Copia as jogadas válidas para 'moves' (ids de peça e, por último, MOVE_ENTER).
+     * Retorna a quantidade; 'moves' precisa comportar todas as peças + 1.
+     */
+    public int fillMoves(int[] moves) {
+        int mask = legalMoveMask();
+        int count = 0;
+        for (int bits = mask & ~ENTER_BIT; bits != 0; bits &= bits - 1) {
+            moves[count++] = Integer.numberOfTrailingZeros(bits);
+        }
+        if ((mask & ENTER_BIT) != 0) moves[count++] = MOVE_ENTER;
+        return count;
+    }
+
+    /**
+     * Executa uma jogada codificada (id da peça ou MOVE_ENTER).
+     */
+    public boolean playMove(int move) {
+        if (move == MOVE_ENTER) return enterNewPiece();
+        List<Piece> pieces = current.getPieces();
+        if (move < 0 || move >= pieces.size()) return false;
+        return movePiece(pieces.get(move));
+    }
+
+    /**
+     * Make/unmake para busca: executa a jogada (id da peça, MOVE_ENTER ou MOVE_PASS)
+     * seguida da troca de turno, sem notificar observers, e devolve um registro
+     * compacto para undoMove. Não aloca memória.
+     */
+    public long applyMove(int move) {
+        if (move != MOVE_PASS && (move == MOVE_ENTER
+                ? (legalMoveMask() & ENTER_BIT) == 0
+                : move < 0 || (legalMoveMask() & (1 << move)) == 0)) {
+            throw new IllegalArgumentException("Jogada inválida: " + move);
+        }
+        long undo = undoHeader();
+        int blackCoins = black.getCoins(), whiteCoins = white.getCoins(), potBefore = pot;
+        int kind = UNDO_NONE;
+        int pieceId = 0, from = 0, dest = 0, direction = 1;
+        if (move == MOVE_ENTER) {
+            Piece p = getFirstOffBoardPiece(current);
+            kind = UNDO_ENTER;
+            pieceId = p.getId();
+            direction = p.getDirection();
+        } else if (move != MOVE_PASS) {
+            Piece p = current.getPieces().get(move);
+            pieceId = move;
+            from = p.getPosition();
+            direction = p.getDirection();
+            dest = computeDestination(from, lastRoll);
+            kind = dest == Piece.FINISHED ? UNDO_FINISH : UNDO_MOVE;
+        }
+
+        silent = true;
+        try {
+            if (kind != UNDO_NONE) playMove(move);
+            nextTurnIfNeeded();
+        } finally {
+            silent = false;
+        }
+
+        return undo | kind | ((long) pieceId << 2) | ((long) (from & 0xff) << 6) | ((long) (dest & 0xff) << 14)
+                | ((direction < 0 ? 1L : 0L) << 22)
+                | ((long) (black.getCoins() - blackCoins + DELTA_BIAS) << 28)
+                | ((long) (white.getCoins() - whiteCoins + DELTA_BIAS) << 32)
+                | ((long) (pot - potBefore + DELTA_BIAS) << 36);
+    }
+
+    /**
+     * Make/unmake do evento de acaso: aplica a rolagem sem notificar; desfaz com undoMove.
+     */
+    public long applyChance(int roll) {
+        long undo = undoHeader() | UNDO_NONE
+                | ((long) DELTA_BIAS << 28) | ((long) DELTA_BIAS << 32) | ((long) DELTA_BIAS << 36);
+        silent = true;
+        try {
+            applyRoll(roll);
+        } finally {
+            silent = false;
+        }
+        return undo;
+    }
+
+    /**
+     * Restaura exatamente o estado anterior a applyMove/applyChance (sem notificar).
+     * Os registros devem ser desfeitos em ordem inversa (pilha).
+     */
+    public void undoMove(long undo) {
+        int kind = (int) (undo & 0x3);
+        int pieceId = (int) ((undo >>> 2) & 0xf);
+        int from = (int) ((undo >>> 6) & 0xff);
+        int dest = (int) ((undo >>> 14) & 0xff);
+        int direction = ((undo >>> 22) & 1L) != 0 ? -1 : +1;
+
+        Player previous = ((undo >>> 27) & 1L) != 0 ? white : black;
+        if (previous != current) {
+            current = previous;
+            zobristKey ^= Zobrist.whiteToMove();
+        }
+        setLastRoll((int) ((undo >>> 23) & 0x7) - 1);
+        setExtraTurn(((undo >>> 26) & 1L) != 0);
+        addCoins(black, -((int) ((undo >>> 28) & 0xf) - DELTA_BIAS));
+        addCoins(white, -((int) ((undo >>> 32) & 0xf) - DELTA_BIAS));
+        setPot(pot - ((int) ((undo >>> 36) & 0xf) - DELTA_BIAS));
+
+        PlayerColorEnum color = current.getColor();
+        if (kind != UNDO_NONE) {
+            Piece p = current.getPieces().get(pieceId);
+            switch (kind) {
+                case UNDO_MOVE -> {
+                    board.free(dest);
+                    p.restore(from, direction);
+                    board.occupy(from, p);
+                    zobristKey ^= Zobrist.cell(color, dest) ^ Zobrist.cell(color, from);
+                }
+                case UNDO_FINISH -> {
+                    int finishedAfter = (int) current.countFinished();
+                    p.restore(from, direction);
+                    board.occupy(from, p);
+                    zobristKey ^= Zobrist.cell(color, from)
+                            ^ Zobrist.finished(color, finishedAfter)
+                            ^ Zobrist.finished(color, finishedAfter - 1);
+                }
+                default -> { // UNDO_ENTER
+                    int start = p.getPosition();
+                    board.free(start);
+                    p.restore(Piece.OFF_BOARD, direction);
+                    zobristKey ^= Zobrist.cell(color, start);
+                }
+            }
+        }
+        version++;
+    }
+
+    // Campos de turno comuns a todo registro de desfazer
+    private long undoHeader() {
+        return ((long) (lastRoll + 1) << 23)
+                | ((extraTurn ? 1L : 0L) << 26)
+                | ((current == white ? 1L : 0L) << 27);
+    }
+
     // Delegado para MovementRules
     private int computeDestination(int from, int steps) {
         return movementRules.computeDestination(board, current, from, steps);
@@ -134,58 +474,77 @@ public class Game implements GameObservable {
         int dest = computeDestination(from, lastRoll);
         if (dest == Integer.MIN_VALUE) return false;
 
+        PlayerColorEnum color = current.getColor();
         if (dest == Piece.FINISHED) {
+            int finishedBefore = (int) current.countFinished();
             board.free(from);
             piece.finish();
+            zobristKey ^= Zobrist.cell(color, from)
+                    ^ Zobrist.finished(color, finishedBefore)
+                    ^ Zobrist.finished(color, finishedBefore + 1);
             // Finalização: oponente paga 1 ao jogador atual (mantido)
-            getOpponent().addCoins(-1);
-            current.addCoins(1);
-            notifyObservers("FINISH");
+            addCoins(getOpponent(), -1);
+            addCoins(current, 1);
+            version++;
+            if (recording()) recorder.onMove(piece.getId());
+            notifyObservers(GameEventTypeEnum.FINISH);
             return true;
         }
 
         if (!board.isFree(dest)) return false;
 
-        board.free(from);
-        piece.moveTo(dest);
-        board.occupy(dest, piece);
-        applyLandingRules(piece, dest);
-        notifyObservers("MOVE");
+        beginTransaction();
+        try {
+            board.free(from);
+            piece.moveTo(dest);
+            board.occupy(dest, piece);
+            zobristKey ^= Zobrist.cell(color, from) ^ Zobrist.cell(color, dest);
+            version++;
+            if (recording()) recorder.onMove(piece.getId());
+            notifyObservers(GameEventTypeEnum.MOVE);
+            applyLandingRules(piece, dest);
+        } finally {
+            commitTransaction();
+        }
         return true;
     }
 
     // Delegado para ScoringRules (aplica resultado no estado do jogo)
     private void applyLandingRules(Piece piece, int index) {
-        int penalty = scoringRules.penaltyForLanding(board, index);
+        int flags = board.cellFlags(index);
+        int penalty = scoringRules.penaltyForFlags(flags);
         if (penalty != 0) {
             // Nova regra: penalidade vai para o pote (e não ao oponente)
             // penalty é -1, então removemos 1 do jogador atual e adicionamos 1 ao pote.
-            current.addCoins(penalty);
-            pot += -penalty;
-            notifyObservers("PENALTY_POT");
+            addCoins(current, penalty);
+            setPot(pot - penalty);
+            notifyObservers(GameEventTypeEnum.PENALTY_POT);
         }
-        if (scoringRules.isExtraTurn(board, index)) {
-            extraTurn = true;
-            notifyObservers("BONUS");
+        if (scoringRules.isExtraTurnFlags(flags)) {
+            setExtraTurn(true);
+            notifyObservers(GameEventTypeEnum.BONUS);
         }
     }
 
     public boolean mustPass() {
         if (lastRoll <= 0) return true;
-        return movablePieces().isEmpty() && !canEnterNewPiece();
+        return legalMoveMask() == 0;
     }
 
     public void nextTurnIfNeeded() {
         if (!current.hasCoins()) {
-            notifyObservers("NO_COINS");
+            notifyObservers(GameEventTypeEnum.NO_COINS);
             return;
         }
         if (!extraTurn) {
             current = getOpponent();
+            zobristKey ^= Zobrist.whiteToMove();
         }
-        lastRoll = -1;
-        extraTurn = false;
-        notifyObservers("TURN");
+        setLastRoll(-1);
+        setExtraTurn(false);
+        version++;
+        if (recording()) recorder.onTurnEnd();
+        notifyObservers(GameEventTypeEnum.TURN);
     }
 
     public boolean isGameOver() {
@@ -199,10 +558,12 @@ public class Game implements GameObservable {
         if (!potSettled && isGameOver()) {
             Player winner = determineWinner();
             if (winner != null && pot > 0) {
-                winner.addCoins(pot);
-                pot = 0;
+                addCoins(winner, pot);
+                setPot(0);
             }
             potSettled = true;
+            version++;
+            if (recording()) recorder.onPotSettled();
         }
 
         if (!black.hasCoins() && !white.hasCoins()) return "Ambos sem moedas. Empate raro!";
@@ -213,6 +574,11 @@ public class Game implements GameObservable {
         return "";
     }
 
+    // Vencedor da partida encerrada (null se em andamento ou empate)
+    public Player getWinner() {
+        return isGameOver() ? determineWinner() : null;
+    }
+
     private Player determineWinner() {
         if (!black.hasCoins() && !white.hasCoins()) return null;
         if (!black.hasCoins()) return white;
@@ -226,11 +592,38 @@ public class Game implements GameObservable {
         return "Vitória de " + p.getName() + " (" + p.getColor() + ") - " + cause;
     }
 
+    // Mutadores que mantêm o hash Zobrist em dia
+    private void addCoins(Player player, int delta) {
+        int before = player.getCoins();
+        player.addCoins(delta);
+        zobristKey ^= Zobrist.coins(player.getColor(), before) ^ Zobrist.coins(player.getColor(), player.getCoins());
+    }
+
+    private void setPot(int value) {
+        zobristKey ^= Zobrist.pot(pot) ^ Zobrist.pot(value);
+        pot = value;
+    }
+
+    private void setLastRoll(int value) {
+        zobristKey ^= Zobrist.roll(lastRoll) ^ Zobrist.roll(value);
+        lastRoll = value;
+    }
+
+    private void setExtraTurn(boolean value) {
+        if (extraTurn != value) zobristKey ^= Zobrist.extraTurn();
+        extraTurn = value;
+    }
+
     private boolean hasOffBoardPiece(Player player) {
-        return getFirstOffBoardPiece(player).isPresent();
+        return player.countOffBoard() > 0;
     }
 
-    private Optional<Piece> getFirstOffBoardPiece(Player player) {
-        return player.getPieces().stream().filter(pc -> !pc.isOnBoard() && !pc.isFinished()).findFirst();
+    private Piece getFirstOffBoardPiece(Player player) {
+        List<Piece> pieces = player.getPieces();
+        for (int i = 0; i < pieces.size(); i++) {
+            Piece pc = pieces.get(i);
+            if (!pc.isOnBoard() && !pc.isFinished()) return pc;
+        }
+        return null;
     }
 }
\ No newline at end of file
@@ -0,0 +1,105 @@
+package padroes.projeto.patoli.model.game;
+
+import padroes.projeto.patoli.model.board.BoardTopology;
+
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Checkpoint binário versionado de uma partida em andamento, lido e gravado
+ * direto num ByteBuffer (sem reflexão nem Serializable).
+ *
+ * Formato (versão 1):
+ *   magic "PTCK" (int) | versão (u16) | id do layout, nomes BLACK e WHITE (u16 tamanho + UTF-8)
+ *   posição (GameState: dois longs com ocupação, peças/direções, moedas, pote, vez,
+ *   rolagem, turno extra e pote liquidado)
+ *   dados: tipo (byte) + estado; RNG_SPLITMIX = estado e gamma do SplitMix64 (dois longs)
+ *
+ * Com SplitMix64 a partida retomada continua com exatamente as mesmas rolagens.
+ * Outras fontes de aleatoriedade não são serializáveis: gravadas como RNG_NONE e
+ * retomadas com dados novos.
+ */
+public final class GameCheckpoint {
+    public static final int MAGIC = 0x5054434b; // "PTCK"
+    public static final int VERSION = 1;
+
+    private static final byte RNG_NONE = 0;
+    private static final byte RNG_SPLITMIX = 1;
+
+    private GameCheckpoint() {
+    }
+
+    // Bytes necessários para gravar o jogo
+    public static int sizeOf(Game game) {
+        int size = Integer.BYTES + Short.BYTES
+                + stringSize(game.getBoard().getTopology().getId())
+                + stringSize(game.getBlack().getName())
+                + stringSize(game.getWhite().getName())
+                + 2 * Long.BYTES + 1;
+        if (game.getDice().getRandom() instanceof SplitMix64) size += 2 * Long.BYTES;
+        return size;
+    }
+
+    /**
+     * Grava o checkpoint a partir da posição atual de 'out'; retorna os bytes escritos.
+     */
+    public static int write(Game game, ByteBuffer out) {
+        int start = out.position();
+        GameState state = game.captureState();
+        out.putInt(MAGIC).putShort((short) VERSION);
+        putString(out, game.getBoard().getTopology().getId());
+        putString(out, game.getBlack().getName());
+        putString(out, game.getWhite().getName());
+        out.putLong(state.pieces()).putLong(state.meta());
+        if (game.getDice().getRandom() instanceof SplitMix64 rng) {
+            out.put(RNG_SPLITMIX).putLong(rng.getState()).putLong(rng.getGamma());
+        } else {
+            out.put(RNG_NONE);
+        }
+        return out.position() - start;
+    }
+
+    /**
+     * Recria a partida a partir da posição atual de 'in' (avança o buffer).
+     * Não dispara observers: a partida retomada ainda não tem nenhum.
+     */
+    public static Game read(ByteBuffer in) {
+        try {
+            if (in.getInt() != MAGIC) throw new IllegalArgumentException("Buffer não contém um checkpoint de partida");
+            int version = in.getShort() & 0xffff;
+            if (version != VERSION) throw new IllegalArgumentException("Versão de checkpoint não suportada: " + version);
+            String layoutId = getString(in);
+            if (BoardTopology.resolve(layoutId) == null) {
+                throw new IllegalArgumentException("Checkpoint de outro tabuleiro: " + layoutId);
+            }
+            String blackName = getString(in);
+            String whiteName = getString(in);
+            GameState state = new GameState(in.getLong(), in.getLong());
+            CoinDice dice = switch (in.get()) {
+                case RNG_SPLITMIX -> new CoinDice(new SplitMix64(in.getLong(), in.getLong()));
+                case RNG_NONE -> new CoinDice();
+                default -> throw new IllegalArgumentException("Tipo de dados desconhecido no checkpoint");
+            };
+            return new Game(blackName, whiteName, dice, state);
+        } catch (BufferUnderflowException e) {
+            throw new IllegalArgumentException("Checkpoint truncado", e);
+        }
+    }
+
+    private static int stringSize(String value) {
+        return Short.BYTES + value.getBytes(StandardCharsets.UTF_8).length;
+    }
+
+    private static void putString(ByteBuffer out, String value) {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        if (bytes.length > 0xffff) throw new IllegalArgumentException("Texto longo demais para o checkpoint: " + value);
+        out.putShort((short) bytes.length).put(bytes);
+    }
+
+    private static String getString(ByteBuffer in) {
+        byte[] bytes = new byte[in.getShort() & 0xffff];
+        in.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,19 @@
+package padroes.projeto.patoli.model.game;
+
+import padroes.projeto.patoli.model.game.enums.GameEventTypeEnum;
+
+/**
+ * Lote de eventos imutável publicado por GameEventPublisher: máscara dos tipos
+ * (GameEventTypeEnum.bit()), versão do jogo e a posição logo após o comando.
+ */
+public record GameEvent(long version, int types, GameState state) {
+
+    public boolean contains(GameEventTypeEnum type) {
+        return (types & type.bit()) != 0;
+    }
+
+    // Conflação: acumula os tipos e fica com o estado mais recente
+    GameEvent mergeWith(GameEvent newer) {
+        return new GameEvent(newer.version, types | newer.types, newer.state);
+    }
+}
@@ -0,0 +1,55 @@
+package padroes.projeto.patoli.model.game;
+
+import padroes.projeto.patoli.model.game.enums.GameEventTypeEnum;
+
+/**
+ * Eventos coalescidos de um comando (transação) do jogo, na ordem em que ocorreram;
+ * cada tipo aparece no máximo uma vez.
+ *
+ * A instância é reutilizada pelo Game: só é válida durante onGameChanged
+ * (copie com mask() se precisar guardar).
+ */
+public final class GameEventBatch {
+    private static final GameEventTypeEnum[] TYPES = GameEventTypeEnum.values();
+
+    private final GameEventTypeEnum[] events = new GameEventTypeEnum[TYPES.length];
+    private int size;
+    private int mask;
+
+    GameEventBatch() {
+    }
+
+    public int size() { return size; }
+    public boolean isEmpty() { return size == 0; }
+    public int mask() { return mask; }
+
+    public GameEventTypeEnum get(int index) {
+        if (index < 0 || index >= size) throw new IndexOutOfBoundsException(index);
+        return events[index];
+    }
+
+    public boolean contains(GameEventTypeEnum type) {
+        return (mask & type.bit()) != 0;
+    }
+
+    void add(GameEventTypeEnum type) {
+        if ((mask & type.bit()) != 0) return;
+        mask |= type.bit();
+        events[size++] = type;
+    }
+
+    void clear() {
+        size = 0;
+        mask = 0;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder("[");
+        for (int i = 0; i < size; i++) {
+            if (i > 0) sb.append(", ");
+            sb.append(events[i]);
+        }
+        return sb.append(']').toString();
+    }
+}
@@ -0,0 +1,273 @@
+package padroes.projeto.patoli.model.game;
+
+import padroes.projeto.patoli.model.game.enums.OverflowPolicyEnum;
+
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Flow;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Publica os lotes de eventos de um Game como Flow.Publisher.
+ *
+ * Cada assinante tem um buffer circular limitado e uma virtual thread própria
+ * para a entrega: a thread do jogo só enfileira (ou, com BLOCK, espera espaço),
+ * então um assinante lento não atrasa movePiece. A demanda (request) é respeitada
+ * por assinante; quando o buffer enche vale a OverflowPolicyEnum escolhida.
+ *
+ * Se o próprio assinante lançar exceção, a assinatura é cancelada e nenhum outro
+ * sinal é enviado a ele (regra 2.13); a exceção fica em getLastSubscriberError().
+ */
+public class GameEventPublisher implements Flow.Publisher<GameEvent>, GameObserver, AutoCloseable {
+    public static final int DEFAULT_CAPACITY = 256;
+    // Espera máxima da thread do jogo por espaço (BLOCK) antes de desistir do assinante
+    public static final long BLOCK_TIMEOUT_MILLIS = 5_000;
+
+    private static final AtomicLong THREAD_IDS = new AtomicLong();
+
+    private final Game game;
+    private final CopyOnWriteArrayList<Channel> channels = new CopyOnWriteArrayList<>();
+    private volatile boolean closed;
+    private volatile Throwable lastSubscriberError;
+
+    private GameEventPublisher(Game game) {
+        this.game = game;
+    }
+
+    /**
+     * Cria o publisher e passa a observar o jogo.
+     */
+    public static GameEventPublisher create(Game game) {
+        GameEventPublisher publisher = new GameEventPublisher(game);
+        game.addObserver(publisher);
+        return publisher;
+    }
+
+    @Override
+    public void subscribe(Flow.Subscriber<? super GameEvent> subscriber) {
+        subscribe(subscriber, DEFAULT_CAPACITY, OverflowPolicyEnum.DROP_OLDEST);
+    }
+
+    public void subscribe(Flow.Subscriber<? super GameEvent> subscriber, int capacity, OverflowPolicyEnum policy) {
+        if (subscriber == null) throw new NullPointerException("subscriber");
+        if (capacity < 1) throw new IllegalArgumentException("Capacidade inválida: " + capacity);
+        Channel channel = new Channel(subscriber, capacity, policy);
+        if (closed) channel.complete();
+        else channels.add(channel);
+        Thread.ofVirtual()
+                .name("patolli-events-" + THREAD_IDS.incrementAndGet())
+                .start(channel::deliver);
+    }
+
+    // Chamado na thread do jogo, uma vez por transação
+    @Override
+    public void onGameChanged(Game game, GameEventBatch events) {
+        if (channels.isEmpty()) return;
+        GameEvent event = new GameEvent(game.getVersion(), events.mask(), game.captureState());
+        for (Channel c : channels) c.offer(event);
+    }
+
+    public int getSubscriberCount() {
+        return channels.size();
+    }
+
+    // Total de eventos descartados (DROP_OLDEST) ou fundidos (CONFLATE)
+    public long getDroppedCount() {
+        long total = 0;
+        for (Channel c : channels) total += c.dropped;
+        return total;
+    }
+
+    // Última exceção lançada por um assinante (a assinatura dele foi cancelada), ou null
+    public Throwable getLastSubscriberError() {
+        return lastSubscriberError;
+    }
+
+    // Deixa de observar o jogo; os assinantes recebem onComplete após esvaziar o buffer
+    @Override
+    public void close() {
+        closed = true;
+        game.removeObserver(this);
+        for (Channel c : channels) c.complete();
+        channels.clear();
+    }
+
+    private final class Channel implements Flow.Subscription {
+        private final Flow.Subscriber<? super GameEvent> subscriber;
+        private final OverflowPolicyEnum policy;
+        private final GameEvent[] buffer;
+        private final ReentrantLock lock = new ReentrantLock();
+        private final Condition readable = lock.newCondition();
+        private final Condition writable = lock.newCondition();
+
+        private int head;
+        private int size;
+        private long demand;
+        private boolean completed;
+        private boolean cancelled;
+        private Throwable error;
+        private volatile long dropped;
+
+        Channel(Flow.Subscriber<? super GameEvent> subscriber, int capacity, OverflowPolicyEnum policy) {
+            this.subscriber = subscriber;
+            this.policy = policy;
+            this.buffer = new GameEvent[capacity];
+        }
+
+        void offer(GameEvent event) {
+            lock.lock();
+            try {
+                if (cancelled || completed) return;
+                if (size == buffer.length) {
+                    switch (policy) {
+                        case DROP_OLDEST -> {
+                            buffer[head] = null;
+                            head = (head + 1) % buffer.length;
+                            size--;
+                            dropped++;
+                        }
+                        case CONFLATE -> {
+                            int last = (head + size - 1) % buffer.length;
+                            buffer[last] = buffer[last].mergeWith(event);
+                            dropped++;
+                            return;
+                        }
+                        case BLOCK -> {
+                            if (!awaitSpace()) return;
+                        }
+                    }
+                }
+                buffer[(head + size) % buffer.length] = event;
+                size++;
+                readable.signal();
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        // BLOCK: espera espaço; interrupção ou tempo esgotado encerram a assinatura com onError
+        private boolean awaitSpace() {
+            long nanos = TimeUnit.MILLISECONDS.toNanos(BLOCK_TIMEOUT_MILLIS);
+            try {
+                while (size == buffer.length && !cancelled) {
+                    if (nanos <= 0) {
+                        fail(new IllegalStateException("Assinante não consumiu os eventos em "
+                                + BLOCK_TIMEOUT_MILLIS + " ms"));
+                        return false;
+                    }
+                    nanos = writable.awaitNanos(nanos);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                fail(e);
+                return false;
+            }
+            return !cancelled;
+        }
+
+        void complete() {
+            lock.lock();
+            try {
+                completed = true;
+                readable.signal();
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        @Override
+        public void request(long n) {
+            lock.lock();
+            try {
+                if (cancelled) return;
+                if (n <= 0) {
+                    // Regra 3.9 da especificação Reactive Streams
+                    fail(new IllegalArgumentException("request deve ser positivo: " + n));
+                    return;
+                }
+                demand = demand + n < 0 ? Long.MAX_VALUE : demand + n;
+                readable.signal();
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        // Cancela pelo lado do publisher; o laço de entrega envia onError(cause)
+        private void fail(Throwable cause) {
+            lock.lock();
+            try {
+                if (cancelled) return;
+                error = cause;
+                cancelled = true;
+                readable.signal();
+                writable.signalAll();
+            } finally {
+                lock.unlock();
+            }
+            channels.remove(this);
+        }
+
+        @Override
+        public void cancel() {
+            lock.lock();
+            try {
+                cancelled = true;
+                readable.signal();
+                writable.signalAll();
+            } finally {
+                lock.unlock();
+            }
+            channels.remove(this);
+        }
+
+        // Laço da virtual thread: todos os sinais ao assinante saem daqui, em série
+        void deliver() {
+            try {
+                subscriber.onSubscribe(this);
+                GameEvent next;
+                while ((next = take()) != null) subscriber.onNext(next);
+                if (error != null) {
+                    subscriber.onError(error);
+                } else if (!isCancelled()) {
+                    cancel();
+                    subscriber.onComplete();
+                }
+            } catch (Throwable t) {
+                // O assinante falhou: a assinatura está cancelada e ele não recebe mais sinais
+                cancel();
+                lastSubscriberError = t;
+            }
+        }
+
+        // Próximo evento com demanda; null se cancelado ou concluído com o buffer vazio
+        private GameEvent take() {
+            lock.lock();
+            try {
+                while (!cancelled && !(completed && size == 0) && (size == 0 || demand == 0)) {
+                    readable.awaitUninterruptibly();
+                }
+                if (cancelled || size == 0) return null;
+                GameEvent next = buffer[head];
+                buffer[head] = null;
+                head = (head + 1) % buffer.length;
+                size--;
+                if (demand != Long.MAX_VALUE) demand--;
+                writable.signal();
+                return next;
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        private boolean isCancelled() {
+            lock.lock();
+            try {
+                return cancelled;
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+}
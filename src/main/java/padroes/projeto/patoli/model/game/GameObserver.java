@@ -1,6 +1,6 @@
 package padroes.projeto.patoli.model.game;
 
 public interface GameObserver {
-    // reason: identificador textual do evento (ex.: "ROLL", "MOVE", "ENTER", "TURN", "GAME_OVER", ...)
-    void onGameChanged(Game game, String reason);
-}
\ No newline at end of file
+    // events: lote coalescido de um comando (ex.: MOVE + PENALTY_POT + TURN); válido só durante a chamada
+    void onGameChanged(Game game, GameEventBatch events);
+}
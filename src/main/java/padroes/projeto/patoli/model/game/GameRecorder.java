@@ -0,0 +1,18 @@
+package padroes.projeto.patoli.model.game;
+
+/**
+ * Recebe cada comando aplicado ao jogo, na ordem, para gravação/replay
+ * (ex.: GameLogWriter). Não é chamado durante a busca (applyMove/undoMove).
+ */
+public interface GameRecorder {
+    void onRoll(int roll);
+
+    // id da peça movida ou Game.MOVE_ENTER
+    void onMove(int move);
+
+    // nextTurnIfNeeded com troca/renovação de turno
+    void onTurnEnd();
+
+    // Pote entregue ao vencedor no fim da partida
+    void onPotSettled();
+}
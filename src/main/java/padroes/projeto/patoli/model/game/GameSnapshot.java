@@ -0,0 +1,48 @@
+package padroes.projeto.patoli.model.game;
+
+import padroes.projeto.patoli.model.board.Piece;
+import padroes.projeto.patoli.model.board.enums.PlayerColorEnum;
+
+/**
+ * Retrato imutável do jogo ao fim de um comando, publicado por Game numa
+ * referência volatile: qualquer thread lê uma visão consistente sem locks.
+ *
+ * moveMask: jogadas válidas no momento (como Game.legalMoveMask()).
+ */
+public record GameSnapshot(long version, GameState state, int moveMask, boolean gameOver,
+                           String blackName, String whiteName, int piecesPerPlayer) {
+
+    static GameSnapshot of(Game game) {
+        return new GameSnapshot(game.getVersion(), game.captureState(), game.legalMoveMask(), game.isGameOver(),
+                game.getBlack().getName(), game.getWhite().getName(), game.getBlack().getPieces().size());
+    }
+
+    public String name(PlayerColorEnum color) {
+        return color == PlayerColorEnum.BLACK ? blackName : whiteName;
+    }
+
+    public int coins(PlayerColorEnum color) {
+        return color == PlayerColorEnum.BLACK ? state.blackCoins() : state.whiteCoins();
+    }
+
+    public int pot() { return state.pot(); }
+    public PlayerColorEnum currentColor() { return state.currentColor(); }
+    public PlayerColorEnum opponentColor() {
+        return currentColor() == PlayerColorEnum.BLACK ? PlayerColorEnum.WHITE : PlayerColorEnum.BLACK;
+    }
+    public int lastRoll() { return state.lastRoll(); }
+    public boolean canEnterNewPiece() { return (moveMask & Game.ENTER_BIT) != 0; }
+
+    // Índice da casa, Piece.OFF_BOARD ou Piece.FINISHED
+    public int piecePosition(PlayerColorEnum color, int pieceId) {
+        return state.piecePosition(color, pieceId);
+    }
+
+    public int countFinished(PlayerColorEnum color) {
+        int finished = 0;
+        for (int id = 0; id < piecesPerPlayer; id++) {
+            if (state.piecePosition(color, id) == Piece.FINISHED) finished++;
+        }
+        return finished;
+    }
+}
@@ -0,0 +1,155 @@
+package padroes.projeto.patoli.model.game;
+
+import padroes.projeto.patoli.model.board.Board;
+import padroes.projeto.patoli.model.board.Piece;
+import padroes.projeto.patoli.model.board.Player;
+import padroes.projeto.patoli.model.board.enums.PlayerColorEnum;
+
+import java.util.List;
+
+/**
+ * Posição completa do jogo empacotada em dois longs (valor imutável).
+ *
+ * pieces: 8 bits por peça (até 4 por jogador; BLACK nos bits 0..31, WHITE em 32..63)
+ *   - bits 0..6: 0 = fora do tabuleiro, 1 = finalizada, 2 + índice da casa
+ *   - bit 7: direção (0 = +1, 1 = -1)
+ * meta:
+ *   - bits 0..6 / 7..13: moedas BLACK / WHITE (deslocadas em +64)
+ *   - bits 14..20: pote
+ *   - bit 21: jogador atual (0 = BLACK, 1 = WHITE)
+ *   - bits 22..24: última rolagem + 1 (0 = ainda não rolou)
+ *   - bit 25: turno extra; bit 26: pote liquidado
+ *
+ * Copiar, comparar e usar como chave custa o mesmo que dois longs.
+ */
+public record GameState(long pieces, long meta) {
+    public static final int MAX_PIECES_PER_PLAYER = 4;
+    public static final int MAX_TRACK_SIZE = 126;
+
+    // Layout compartilhado com GameStateDelta
+    static final int SLOT_BITS = 8;
+    private static final int CODE_OFF = 0;
+    private static final int CODE_FINISHED = 1;
+    private static final int CODE_FIRST_CELL = 2;
+    private static final int DIRECTION_BIT = 0x80;
+
+    private static final int COIN_BIAS = 64;
+    static final int SHIFT_WHITE_COINS = 7;
+    static final int SHIFT_POT = 14;
+    static final int SHIFT_CURRENT = 21;
+    private static final int SHIFT_ROLL = 22;
+    private static final int SHIFT_EXTRA = 25;
+    private static final int SHIFT_SETTLED = 26;
+
+    public static GameState of(Game game) {
+        long pieces = packPlayer(game.getBlack(), 0) | packPlayer(game.getWhite(), 32);
+        long meta = packCoins(game.getBlack().getCoins())
+                | (packCoins(game.getWhite().getCoins()) << SHIFT_WHITE_COINS)
+                | ((long) checkRange(game.getPot(), 0, 127, "pote") << SHIFT_POT)
+                | ((game.getCurrent() == game.getWhite() ? 1L : 0L) << SHIFT_CURRENT)
+                | ((long) (game.getLastRoll() + 1) << SHIFT_ROLL)
+                | ((game.isExtraTurn() ? 1L : 0L) << SHIFT_EXTRA)
+                | ((game.isPotSettled() ? 1L : 0L) << SHIFT_SETTLED);
+        return new GameState(pieces, meta);
+    }
+
+    /**
+     * Aplica esta posição ao jogo (sem notificar observers).
+     */
+    public void applyTo(Game game) {
+        Board board = game.getBoard();
+        freePieces(board, game.getBlack());
+        freePieces(board, game.getWhite());
+        unpackPlayer(board, game.getBlack(), 0);
+        unpackPlayer(board, game.getWhite(), 32);
+
+        setCoins(game.getBlack(), blackCoins());
+        setCoins(game.getWhite(), whiteCoins());
+        game.restoreTurn(currentColor() == PlayerColorEnum.BLACK ? game.getBlack() : game.getWhite(),
+                lastRoll(), extraTurn(), pot(), potSettled());
+    }
+
+    // Acessores de campo (sem desempacotar o restante)
+    public int blackCoins() { return (int) (meta & 0x7f) - COIN_BIAS; }
+    public int whiteCoins() { return (int) ((meta >>> SHIFT_WHITE_COINS) & 0x7f) - COIN_BIAS; }
+    public int pot() { return (int) ((meta >>> SHIFT_POT) & 0x7f); }
+    public PlayerColorEnum currentColor() {
+        return ((meta >>> SHIFT_CURRENT) & 1L) == 0 ? PlayerColorEnum.BLACK : PlayerColorEnum.WHITE;
+    }
+    public int lastRoll() { return (int) ((meta >>> SHIFT_ROLL) & 0x7) - 1; }
+    public boolean extraTurn() { return ((meta >>> SHIFT_EXTRA) & 1L) != 0; }
+    public boolean potSettled() { return ((meta >>> SHIFT_SETTLED) & 1L) != 0; }
+
+    /**
+     * Posição da peça (índice da casa, Piece.OFF_BOARD ou Piece.FINISHED).
+     */
+    public int piecePosition(PlayerColorEnum color, int pieceId) {
+        int code = slot(color, pieceId) & ~DIRECTION_BIT;
+        if (code == CODE_OFF) return Piece.OFF_BOARD;
+        if (code == CODE_FINISHED) return Piece.FINISHED;
+        return code - CODE_FIRST_CELL;
+    }
+
+    public int pieceDirection(PlayerColorEnum color, int pieceId) {
+        return (slot(color, pieceId) & DIRECTION_BIT) != 0 ? -1 : +1;
+    }
+
+    private int slot(PlayerColorEnum color, int pieceId) {
+        int shift = (color == PlayerColorEnum.BLACK ? 0 : 32) + pieceId * SLOT_BITS;
+        return (int) ((pieces >>> shift) & 0xff);
+    }
+
+    private static long packPlayer(Player player, int baseShift) {
+        List<Piece> list = player.getPieces();
+        if (list.size() > MAX_PIECES_PER_PLAYER) {
+            throw new IllegalStateException("GameState suporta até " + MAX_PIECES_PER_PLAYER + " peças por jogador");
+        }
+        long bits = 0;
+        for (int i = 0; i < list.size(); i++) {
+            Piece p = list.get(i);
+            int code;
+            if (p.isFinished()) code = CODE_FINISHED;
+            else if (!p.isOnBoard()) code = CODE_OFF;
+            else code = CODE_FIRST_CELL + checkRange(p.getPosition(), 0, MAX_TRACK_SIZE - 1, "casa");
+            if (p.getDirection() < 0) code |= DIRECTION_BIT;
+            bits |= ((long) code) << (baseShift + i * SLOT_BITS);
+        }
+        return bits;
+    }
+
+    private void unpackPlayer(Board board, Player player, int baseShift) {
+        List<Piece> list = player.getPieces();
+        for (int i = 0; i < list.size(); i++) {
+            int code = (int) ((pieces >>> (baseShift + i * SLOT_BITS)) & 0xff);
+            int direction = (code & DIRECTION_BIT) != 0 ? -1 : +1;
+            code &= ~DIRECTION_BIT;
+            Piece p = list.get(i);
+            int position = code == CODE_OFF ? Piece.OFF_BOARD
+                    : code == CODE_FINISHED ? Piece.FINISHED
+                    : code - CODE_FIRST_CELL;
+            p.restore(position, direction);
+            if (position >= 0) board.occupy(position, p);
+        }
+    }
+
+    private static void freePieces(Board board, Player player) {
+        for (Piece p : player.getPieces()) {
+            if (p.isOnBoard()) board.free(p.getPosition());
+        }
+    }
+
+    private static void setCoins(Player player, int coins) {
+        player.addCoins(coins - player.getCoins());
+    }
+
+    private static long packCoins(int coins) {
+        return checkRange(coins + COIN_BIAS, 0, 127, "moedas");
+    }
+
+    private static int checkRange(int value, int min, int max, String what) {
+        if (value < min || value > max) {
+            throw new IllegalStateException("Valor fora do intervalo empacotável (" + what + "): " + value);
+        }
+        return value;
+    }
+}
@@ -0,0 +1,94 @@
+package padroes.projeto.patoli.model.game;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Diferença compacta entre duas posições (GameState), para transmitir a
+ * espectadores só o que mudou desde a versão anterior.
+ *
+ * Formato:
+ *   cabeçalho (byte): bit 0 moedas BLACK, bit 1 moedas WHITE, bit 2 pote, bit 3 vez/rolagem,
+ *                     bits 4..7 quantidade de peças alteradas
+ *   por peça alterada: slot (byte: 0..3 BLACK, 4..7 WHITE) + código da peça (byte, como em GameState)
+ *   campos de meta marcados, nessa ordem, um byte cada (vez/rolagem = bits 21..26 de GameState.meta)
+ *
+ * Uma jogada típica (uma peça + vez) ocupa 4 bytes; só uma rolagem, 2.
+ */
+public final class GameStateDelta {
+    public static final int MAX_BYTES = 1 + 2 * 2 * GameState.MAX_PIECES_PER_PLAYER + 4;
+
+    private static final int BLACK_COINS = 1;
+    private static final int WHITE_COINS = 1 << 1;
+    private static final int POT = 1 << 2;
+    private static final int TURN = 1 << 3;
+    private static final int SHIFT_PIECE_COUNT = 4;
+
+    private static final int SLOTS = 64 / GameState.SLOT_BITS;
+    private static final long FIELD_MASK = 0x7f;
+    private static final long TURN_MASK = 0x3f;
+
+    private GameStateDelta() {
+    }
+
+    /**
+     * Escreve em 'out' a diferença de 'base' para 'target'; retorna os bytes escritos.
+     */
+    public static int encode(GameState base, GameState target, ByteBuffer out) {
+        int start = out.position();
+        long meta = target.meta();
+        long changedMeta = base.meta() ^ meta;
+        int header = 0;
+        if ((changedMeta & FIELD_MASK) != 0) header |= BLACK_COINS;
+        if (((changedMeta >>> GameState.SHIFT_WHITE_COINS) & FIELD_MASK) != 0) header |= WHITE_COINS;
+        if (((changedMeta >>> GameState.SHIFT_POT) & FIELD_MASK) != 0) header |= POT;
+        if (((changedMeta >>> GameState.SHIFT_CURRENT) & TURN_MASK) != 0) header |= TURN;
+
+        long changedPieces = base.pieces() ^ target.pieces();
+        int count = 0;
+        for (int slot = 0; slot < SLOTS; slot++) {
+            if (((changedPieces >>> (slot * GameState.SLOT_BITS)) & 0xff) != 0) count++;
+        }
+        out.put((byte) (header | count << SHIFT_PIECE_COUNT));
+        for (int slot = 0; slot < SLOTS && count > 0; slot++) {
+            int shift = slot * GameState.SLOT_BITS;
+            if (((changedPieces >>> shift) & 0xff) == 0) continue;
+            out.put((byte) slot).put((byte) (target.pieces() >>> shift));
+            count--;
+        }
+        if ((header & BLACK_COINS) != 0) out.put((byte) (meta & FIELD_MASK));
+        if ((header & WHITE_COINS) != 0) out.put((byte) ((meta >>> GameState.SHIFT_WHITE_COINS) & FIELD_MASK));
+        if ((header & POT) != 0) out.put((byte) ((meta >>> GameState.SHIFT_POT) & FIELD_MASK));
+        if ((header & TURN) != 0) out.put((byte) ((meta >>> GameState.SHIFT_CURRENT) & TURN_MASK));
+        return out.position() - start;
+    }
+
+    /**
+     * Aplica a diferença lida de 'in' sobre 'base'.
+     *
+     * @throws IllegalArgumentException se a diferença estiver malformada
+     */
+    public static GameState apply(GameState base, ByteBuffer in) {
+        if (!in.hasRemaining()) throw new IllegalArgumentException("Diferença vazia");
+        int header = in.get() & 0xff;
+        int count = header >>> SHIFT_PIECE_COUNT;
+        if (count > SLOTS || in.remaining() < 2 * count) throw new IllegalArgumentException("Peças inválidas na diferença");
+        long pieces = base.pieces();
+        for (int i = 0; i < count; i++) {
+            int slot = in.get();
+            if (slot < 0 || slot >= SLOTS) throw new IllegalArgumentException("Slot de peça inválido: " + slot);
+            int shift = slot * GameState.SLOT_BITS;
+            pieces = (pieces & ~(0xffL << shift)) | ((in.get() & 0xffL) << shift);
+        }
+        long meta = base.meta();
+        if (in.remaining() < Integer.bitCount(header & 0xf)) throw new IllegalArgumentException("Diferença truncada");
+        if ((header & BLACK_COINS) != 0) meta = replace(meta, 0, FIELD_MASK, in.get());
+        if ((header & WHITE_COINS) != 0) meta = replace(meta, GameState.SHIFT_WHITE_COINS, FIELD_MASK, in.get());
+        if ((header & POT) != 0) meta = replace(meta, GameState.SHIFT_POT, FIELD_MASK, in.get());
+        if ((header & TURN) != 0) meta = replace(meta, GameState.SHIFT_CURRENT, TURN_MASK, in.get());
+        return new GameState(pieces, meta);
+    }
+
+    private static long replace(long meta, int shift, long mask, byte value) {
+        return (meta & ~(mask << shift)) | ((value & mask) << shift);
+    }
+}
@@ -0,0 +1,61 @@
+package padroes.projeto.patoli.model.game;
+
+import java.util.random.RandomGenerator;
+
+/**
+ * Gerador SplitMix64 (mesmo algoritmo do SplittableRandom), com estado exposto.
+ * Permite dividir o fluxo entre workers paralelos (split) e salvar/restaurar
+ * o ponto exato da sequência (getState/getGamma), algo que o SplittableRandom não oferece.
+ */
+public final class SplitMix64 implements RandomGenerator {
+    public static final long GOLDEN_GAMMA = 0x9E3779B97F4A7C15L;
+
+    private long state;
+    private final long gamma;
+
+    public SplitMix64(long seed) {
+        this(seed, GOLDEN_GAMMA);
+    }
+
+    // Restaura um gerador a partir de getState()/getGamma()
+    public SplitMix64(long state, long gamma) {
+        this.state = state;
+        this.gamma = gamma | 1L; // gamma precisa ser ímpar
+    }
+
+    public long getState() { return state; }
+    public long getGamma() { return gamma; }
+
+    @Override
+    public long nextLong() {
+        return mix64(state += gamma);
+    }
+
+    @Override
+    public int nextInt() {
+        return (int) (nextLong() >>> 32);
+    }
+
+    /**
+     * Novo gerador com fluxo estatisticamente independente deste.
+     */
+    public SplitMix64 split() {
+        long seed = nextLong();
+        return new SplitMix64(seed, mixGamma(state += gamma));
+    }
+
+    // Finalizador do SplitMix64 (também usado para derivar sementes independentes)
+    public static long mix64(long z) {
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+
+    private static long mixGamma(long z) {
+        z = (z ^ (z >>> 33)) * 0xFF51AFD7ED558CCDL;
+        z = (z ^ (z >>> 33)) * 0xC4CEB9FE1A85EC53L;
+        z = (z ^ (z >>> 33)) | 1L;
+        int n = Long.bitCount(z ^ (z >>> 1));
+        return n < 24 ? z ^ 0xAAAAAAAAAAAAAAAAL : z;
+    }
+}
@@ -0,0 +1,100 @@
+package padroes.projeto.patoli.model.game;
+
+import padroes.projeto.patoli.model.board.Piece;
+import padroes.projeto.patoli.model.board.Player;
+import padroes.projeto.patoli.model.board.enums.PlayerColorEnum;
+
+import java.util.SplittableRandom;
+
+/**
+ * Chaves Zobrist da posição: XOR de números aleatórios fixos por componente.
+ * Game mantém a chave de forma incremental (cada mudança de estado aplica o XOR
+ * do valor antigo e do novo), então obter o hash da posição é O(1).
+ *
+ * Componentes: casa ocupada por cor, quantidade de peças finalizadas por cor,
+ * jogador da vez, rolagem pendente, turno extra, moedas por cor e pote.
+ * Peças da mesma cor são intercambiáveis (a chave não depende do id da peça).
+ */
+public final class Zobrist {
+    public static final int MAX_CELLS = 256;
+    private static final int MAX_FINISHED = 16;
+    private static final int VALUE_RANGE = 128;
+    private static final int COIN_BIAS = 64;
+
+    private static final long[][] CELL = new long[PlayerColorEnum.values().length][MAX_CELLS];
+    private static final long[][] FINISHED = new long[PlayerColorEnum.values().length][MAX_FINISHED + 1];
+    private static final long[][] COINS = new long[PlayerColorEnum.values().length][VALUE_RANGE];
+    private static final long[] POT = new long[VALUE_RANGE];
+    private static final long[] ROLL = new long[8];
+    private static final long WHITE_TO_MOVE;
+    private static final long EXTRA_TURN;
+
+    static {
+        // Semente fixa: as chaves são estáveis entre execuções (úteis para depuração e tabelas persistidas)
+        SplittableRandom rng = new SplittableRandom(0x5A7011L);
+        fill(CELL, rng);
+        fill(FINISHED, rng);
+        fill(COINS, rng);
+        fill(POT, rng);
+        fill(ROLL, rng);
+        WHITE_TO_MOVE = rng.nextLong();
+        EXTRA_TURN = rng.nextLong();
+    }
+
+    private Zobrist() { }
+
+    public static long cell(PlayerColorEnum color, int index) {
+        return CELL[color.ordinal()][index];
+    }
+
+    public static long finished(PlayerColorEnum color, int count) {
+        return FINISHED[color.ordinal()][count];
+    }
+
+    public static long coins(PlayerColorEnum color, int coins) {
+        return COINS[color.ordinal()][(coins + COIN_BIAS) & (VALUE_RANGE - 1)];
+    }
+
+    public static long pot(int pot) {
+        return POT[pot & (VALUE_RANGE - 1)];
+    }
+
+    // Rolagem pendente (-1 = ainda não rolou)
+    public static long roll(int roll) {
+        return ROLL[(roll + 1) & 7];
+    }
+
+    public static long whiteToMove() { return WHITE_TO_MOVE; }
+    public static long extraTurn() { return EXTRA_TURN; }
+
+    /**
+     * Chave completa calculada do zero (inicialização e restauração de estado).
+     */
+    public static long compute(Game game) {
+        long key = player(game.getBlack()) ^ player(game.getWhite());
+        key ^= pot(game.getPot());
+        key ^= roll(game.getLastRoll());
+        if (game.getCurrent().getColor() == PlayerColorEnum.WHITE) key ^= WHITE_TO_MOVE;
+        if (game.isExtraTurn()) key ^= EXTRA_TURN;
+        return key;
+    }
+
+    private static long player(Player player) {
+        PlayerColorEnum color = player.getColor();
+        long key = coins(color, player.getCoins());
+        int finished = 0;
+        for (Piece p : player.getPieces()) {
+            if (p.isFinished()) finished++;
+            else if (p.isOnBoard()) key ^= cell(color, p.getPosition());
+        }
+        return key ^ finished(color, finished);
+    }
+
+    private static void fill(long[][] table, SplittableRandom rng) {
+        for (long[] row : table) fill(row, rng);
+    }
+
+    private static void fill(long[] table, SplittableRandom rng) {
+        for (int i = 0; i < table.length; i++) table[i] = rng.nextLong();
+    }
+}
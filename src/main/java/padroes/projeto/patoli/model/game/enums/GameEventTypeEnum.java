@@ -0,0 +1,19 @@
+package padroes.projeto.patoli.model.game.enums;
+
+public enum GameEventTypeEnum {
+    INIT,
+    ENTER_INIT,
+    ROLL,
+    ENTER,
+    MOVE,
+    FINISH,
+    PENALTY_POT,
+    BONUS,
+    NO_COINS,
+    TURN;
+
+    // Bit do tipo nas máscaras de GameEventBatch
+    public int bit() {
+        return 1 << ordinal();
+    }
+}
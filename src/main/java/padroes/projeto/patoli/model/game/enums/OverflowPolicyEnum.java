@@ -0,0 +1,11 @@
+package padroes.projeto.patoli.model.game.enums;
+
+// O que fazer quando o buffer de um assinante de GameEventPublisher está cheio
+public enum OverflowPolicyEnum {
+    // Descarta o evento mais antigo do buffer
+    DROP_OLDEST,
+    // Funde com o último evento do buffer (tipos acumulados, estado mais recente)
+    CONFLATE,
+    // Bloqueia a thread do jogo até haver espaço
+    BLOCK
+}
@@ -0,0 +1,171 @@
+package padroes.projeto.patoli.model.game.log;
+
+import padroes.projeto.patoli.model.game.Game;
+import padroes.projeto.patoli.model.game.GameRecorder;
+import padroes.projeto.patoli.model.game.GameState;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Log binário append-only de uma partida.
+ *
+ * Cabeçalho: magic "PTLG", versão (u16), semente (long), id do layout e nomes
+ * dos jogadores (u16 tamanho + UTF-8), posição inicial (GameState: dois longs).
+ * Depois, um byte por comando:
+ *   00vvvvvv rolagem v | 01pppppp move a peça p | 10000000 entra nova peça
+ *   11000000 fim de turno | 11000001 pote liquidado
+ *
+ * Os bytes passam por um buffer direto e vão para o FileChannel a cada fim de
+ * turno (e quando o buffer enche), então um encerramento abrupto perde no máximo o
+ * turno em andamento. Os registros chegam pela thread do jogo; flush/close podem ser
+ * chamados de outra thread (p. ex. um shutdown hook). Uma falha de E/S desliga a
+ * gravação sem interromper a partida e fica disponível em getFailure().
+ */
+public class GameLogWriter implements GameRecorder, AutoCloseable {
+    static final int MAGIC = 0x50544c47; // "PTLG"
+    static final int VERSION = 1;
+
+    static final int OP_MASK = 0xc0;
+    static final int OP_ROLL = 0x00;
+    static final int OP_MOVE = 0x40;
+    static final int OP_ENTER = 0x80;
+    static final int OP_TURN = 0xc0;
+    static final int OP_SETTLE = 0xc1;
+
+    private static final int BUFFER_BYTES = 64 * 1024;
+
+    private final Game game;
+    private final FileChannel channel;
+    private final ByteBuffer buffer = ByteBuffer.allocateDirect(BUFFER_BYTES);
+    private long records;
+    private boolean closed;
+    private IOException failure;
+
+    private GameLogWriter(Game game, FileChannel channel) {
+        this.game = game;
+        this.channel = channel;
+    }
+
+    /**
+     * Cria (ou sobrescreve) o log, grava o cabeçalho com a posição atual e passa a
+     * registrar os comandos do jogo.
+     */
+    public static GameLogWriter create(Path file, Game game, long seed) throws IOException {
+        FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE);
+        GameLogWriter writer = new GameLogWriter(game, channel);
+        try {
+            writer.writeHeader(seed);
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+        game.setRecorder(writer);
+        return writer;
+    }
+
+    private void writeHeader(long seed) throws IOException {
+        GameState initial = game.captureState();
+        buffer.putInt(MAGIC).putShort((short) VERSION).putLong(seed);
+        putString(game.getBoard().getTopology().getId());
+        putString(game.getBlack().getName());
+        putString(game.getWhite().getName());
+        buffer.putLong(initial.pieces()).putLong(initial.meta());
+    }
+
+    private void putString(String value) {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        if (bytes.length > 0xffff) throw new IllegalArgumentException("Texto longo demais para o log: " + value);
+        buffer.putShort((short) bytes.length).put(bytes);
+    }
+
+    public synchronized long getRecordCount() { return records; }
+
+    // Falha de E/S que desligou a gravação, ou null
+    public synchronized IOException getFailure() { return failure; }
+
+    @Override
+    public synchronized void onRoll(int roll) {
+        put(OP_ROLL | roll);
+    }
+
+    @Override
+    public synchronized void onMove(int move) {
+        put(move == Game.MOVE_ENTER ? OP_ENTER : OP_MOVE | move);
+    }
+
+    @Override
+    public synchronized void onTurnEnd() {
+        put(OP_TURN);
+        // Fronteira natural: o turno completo vai para o arquivo
+        if (!closed) {
+            try {
+                drain();
+            } catch (IOException e) {
+                fail(e);
+            }
+        }
+    }
+
+    @Override
+    public synchronized void onPotSettled() {
+        put(OP_SETTLE);
+    }
+
+    private synchronized void put(int record) {
+        if (closed) return;
+        if (!buffer.hasRemaining()) {
+            try {
+                drain();
+            } catch (IOException e) {
+                fail(e);
+                return;
+            }
+        }
+        buffer.put((byte) record);
+        records++;
+    }
+
+    // Grava o que estiver no buffer (sem forçar ao disco)
+    public synchronized void flush() throws IOException {
+        if (!closed) drain();
+    }
+
+    // Chamado na thread do jogo: desliga a gravação em vez de abortar a jogada
+    private void fail(IOException e) {
+        failure = e;
+        closed = true;
+        game.setRecorder(null);
+        try {
+            channel.close();
+        } catch (IOException ignored) {
+            // já em falha
+        }
+    }
+
+    private void drain() throws IOException {
+        buffer.flip();
+        while (buffer.hasRemaining()) channel.write(buffer);
+        buffer.clear();
+    }
+
+    /**
+     * Grava o restante e fecha o arquivo. Pode ser chamado de qualquer thread;
+     * registros que chegarem depois são ignorados.
+     */
+    @Override
+    public synchronized void close() throws IOException {
+        if (closed) return;
+        closed = true;
+        try {
+            drain();
+        } finally {
+            channel.close();
+        }
+    }
+}
@@ -0,0 +1,114 @@
+package padroes.projeto.patoli.model.game.log;
+
+import padroes.projeto.patoli.model.board.BoardTopology;
+import padroes.projeto.patoli.model.game.CoinDice;
+import padroes.projeto.patoli.model.game.Game;
+import padroes.projeto.patoli.model.game.GameState;
+
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Reconstrói partidas a partir de um log de GameLogWriter.
+ *
+ * O arquivo é mapeado em memória e os comandos são reaplicados direto no Game
+ * (rolagens via applyRoll, sem consultar os dados), então qualquer ponto da
+ * partida pode ser reproduzido sem a interface.
+ */
+public class GameReplayer {
+    private final long seed;
+    private final String layoutId;
+    private final String blackName;
+    private final String whiteName;
+    private final GameState initial;
+    private final ByteBuffer records;
+
+    private GameReplayer(long seed, String layoutId, String blackName, String whiteName,
+                         GameState initial, ByteBuffer records) {
+        this.seed = seed;
+        this.layoutId = layoutId;
+        this.blackName = blackName;
+        this.whiteName = whiteName;
+        this.initial = initial;
+        this.records = records;
+    }
+
+    public static GameReplayer open(Path file) throws IOException {
+        try (FileChannel ch = FileChannel.open(file, StandardOpenOption.READ)) {
+            MappedByteBuffer buf = ch.map(FileChannel.MapMode.READ_ONLY, 0, ch.size());
+            try {
+                if (buf.getInt() != GameLogWriter.MAGIC || buf.getShort() != GameLogWriter.VERSION) {
+                    throw new IOException("Arquivo não é um log de partida compatível: " + file);
+                }
+                long seed = buf.getLong();
+                String layoutId = getString(buf);
+                String blackName = getString(buf);
+                String whiteName = getString(buf);
+                GameState initial = new GameState(buf.getLong(), buf.getLong());
+                if (BoardTopology.resolve(layoutId) == null) {
+                    throw new IOException("Log gravado em outro tabuleiro (" + layoutId + "): " + file);
+                }
+                return new GameReplayer(seed, layoutId, blackName, whiteName, initial, buf.slice());
+            } catch (BufferUnderflowException e) {
+                throw new IOException("Log truncado: " + file, e);
+            }
+        }
+    }
+
+    private static String getString(ByteBuffer buf) {
+        byte[] bytes = new byte[buf.getShort() & 0xffff];
+        buf.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    public long getSeed() { return seed; }
+    public String getLayoutId() { return layoutId; }
+    public String getBlackName() { return blackName; }
+    public String getWhiteName() { return whiteName; }
+    public GameState getInitialState() { return initial; }
+    public long getRecordCount() { return records.limit(); }
+
+    // Partida completa, na posição após o último comando gravado
+    public Game replay() {
+        return replay(getRecordCount());
+    }
+
+    /**
+     * Partida após os primeiros 'count' comandos do log.
+     * Os dados do jogo devolvido não acompanham as rolagens gravadas.
+     */
+    public Game replay(long count) {
+        if (count < 0 || count > getRecordCount()) throw new IllegalArgumentException("Comando fora do log: " + count);
+        Game game = new Game(blackName, whiteName, new CoinDice(seed));
+        game.restoreState(initial);
+        for (int i = 0; i < count; i++) {
+            apply(game, records.get(i) & 0xff, i);
+        }
+        return game;
+    }
+
+    private static void apply(Game game, int record, int position) {
+        switch (record & GameLogWriter.OP_MASK) {
+            case GameLogWriter.OP_ROLL -> game.applyRoll(record);
+            case GameLogWriter.OP_MOVE -> check(game.playMove(record & ~GameLogWriter.OP_MASK), record, position);
+            case GameLogWriter.OP_ENTER -> check(record == GameLogWriter.OP_ENTER && game.playMove(Game.MOVE_ENTER), record, position);
+            default -> {
+                if (record == GameLogWriter.OP_TURN) game.nextTurnIfNeeded();
+                else if (record == GameLogWriter.OP_SETTLE) game.gameOverMessage();
+                else check(false, record, position);
+            }
+        }
+    }
+
+    private static void check(boolean applied, int record, int position) {
+        if (!applied) {
+            throw new IllegalStateException("Comando inválido no log (posição " + position + "): 0x" + Integer.toHexString(record));
+        }
+    }
+}
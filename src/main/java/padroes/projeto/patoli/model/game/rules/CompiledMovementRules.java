@@ -0,0 +1,74 @@
+package padroes.projeto.patoli.model.game.rules;
+
+import padroes.projeto.patoli.model.board.Board;
+import padroes.projeto.patoli.model.board.BoardTopology;
+import padroes.projeto.patoli.model.board.Player;
+import padroes.projeto.patoli.model.board.enums.PlayerColorEnum;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * MovementRules pré-compilada: o destino de cada (cor, casa, passos) é calculado
+ * uma única vez e guardado em int[cor][casa][passos], incluindo as sentinelas
+ * Piece.FINISHED e Integer.MIN_VALUE. Consultar um movimento vira um acesso a array.
+ *
+ * As tabelas dependem apenas da geometria da trilha (tamanho + START de cada cor),
+ * então são guardadas por BoardTopology e compartilhadas por todas as partidas do layout.
+ */
+public class CompiledMovementRules extends MovementRules {
+    // Maior rolagem possível das 5 moedas
+    public static final int MAX_STEPS = 5;
+
+    // Topologias são internadas por layout: a identidade basta como chave
+    private static final Map<BoardTopology, CompiledMovementRules> CACHE = new ConcurrentHashMap<>();
+
+    private final int[][][] destinations;
+
+    private CompiledMovementRules(Board board) {
+        PlayerColorEnum[] colors = PlayerColorEnum.values();
+        int n = board.size();
+        destinations = new int[colors.length][n][MAX_STEPS + 1];
+        for (PlayerColorEnum color : colors) {
+            for (int from = 0; from < n; from++) {
+                for (int steps = 0; steps <= MAX_STEPS; steps++) {
+                    destinations[color.ordinal()][from][steps] = super.computeDestination(board, color, from, steps);
+                }
+            }
+        }
+    }
+
+    /**
+     * Tabelas para a geometria do tabuleiro informado (construídas na primeira chamada
+     * para cada topologia).
+     */
+    public static CompiledMovementRules forBoard(Board board) {
+        return CACHE.computeIfAbsent(board.getTopology(), CompiledMovementRules::compile);
+    }
+
+    private static CompiledMovementRules compile(BoardTopology topology) {
+        return new CompiledMovementRules(new Board(topology));
+    }
+
+    @Override
+    public int computeDestination(Board board, PlayerColorEnum color, int from, int steps) {
+        int[][] byFrom = destinations[color.ordinal()];
+        if (steps < 0 || steps > MAX_STEPS || from < 0 || from >= byFrom.length) {
+            return super.computeDestination(board, color, from, steps);
+        }
+        return byFrom[from][steps];
+    }
+
+    @Override
+    public int computeDestination(Board board, Player current, int from, int steps) {
+        return computeDestination(board, current.getColor(), from, steps);
+    }
+
+    /**
+     * Acesso direto à tabela (sem validação), para laços internos de busca/simulação.
+     * Requer 0 <= from < tamanho da trilha e 0 <= steps <= MAX_STEPS.
+     */
+    public int destination(int colorOrdinal, int from, int steps) {
+        return destinations[colorOrdinal][from][steps];
+    }
+}
@@ -3,6 +3,7 @@ package padroes.projeto.patoli.model.game.rules;
 import padroes.projeto.patoli.model.board.Board;
 import padroes.projeto.patoli.model.board.Piece;
 import padroes.projeto.patoli.model.board.Player;
+import padroes.projeto.patoli.model.board.enums.PlayerColorEnum;
 
 /**
  * Regras puras de movimento.
@@ -22,9 +23,13 @@ public class MovementRules {
      * - Permite cruzar a START quando não estiver finalizando (sem efeito).
      */
     public int computeDestination(Board board, Player current, int from, int steps) {
+        return computeDestination(board, current.getColor(), from, steps);
+    }
+
+    public int computeDestination(Board board, PlayerColorEnum color, int from, int steps) {
         if (steps <= 0) return from;
 
-        int startIdx = board.getStartIndex(current.getColor());
+        int startIdx = board.getStartIndex(color);
         int n = board.size();
 
         // Distância linear até a START no sentido do percurso
@@ -1,6 +1,7 @@
 package padroes.projeto.patoli.model.game.rules;
 
 import padroes.projeto.patoli.model.board.Board;
+import padroes.projeto.patoli.model.board.BoardTopology;
 
 /**
  * Regras puras de pontuação/efeitos ao pousar.
@@ -14,13 +15,22 @@ public class ScoringRules {
      *  0 caso contrário.
      */
     public int penaltyForLanding(Board board, int index) {
-        return board.isTriangle(index) ? -1 : 0;
+        return penaltyForFlags(board.cellFlags(index));
     }
 
     /**
      * Indica se a casa confere turno extra (ENDPOINT).
      */
     public boolean isExtraTurn(Board board, int index) {
-        return board.isEndpoint(index);
+        return isExtraTurnFlags(board.cellFlags(index));
+    }
+
+    // Variantes sobre Board.cellFlags já lido (resolução do pouso com uma leitura)
+    public int penaltyForFlags(int flags) {
+        return (flags & BoardTopology.FLAG_PENALTY) != 0 ? -1 : 0;
+    }
+
+    public boolean isExtraTurnFlags(int flags) {
+        return (flags & BoardTopology.FLAG_EXTRA_TURN) != 0;
     }
 }
\ No newline at end of file
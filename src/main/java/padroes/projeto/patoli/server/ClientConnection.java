@@ -0,0 +1,90 @@
+package padroes.projeto.patoli.server;
+
+import padroes.projeto.patoli.controller.viewmodel.enums.PlayerColorVMEnum;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.SocketChannel;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Conexão de um cliente: buffers de entrada/saída e a partida em que joga.
+ * Usada apenas pela thread do seletor.
+ */
+final class ClientConnection {
+    private static final int OUT_BYTES = 16 * 1024;
+
+    final SocketChannel channel;
+    final SelectionKey key;
+    final ByteBuffer in = ByteBuffer.allocate(2 * MatchProtocol.MAX_FRAME);
+    private final ByteBuffer out = ByteBuffer.allocate(OUT_BYTES);
+
+    String name;
+    HostedMatch match;
+    // Partida assistida como espectador
+    HostedMatch watching;
+    PlayerColorVMEnum color;
+    boolean waiting;
+    // Na fila de envio do laço do seletor
+    boolean dirty;
+    // Cliente lento demais (buffer de saída estourou): será desconectado
+    boolean overflowed;
+
+    ClientConnection(SocketChannel channel, SelectionKey key) {
+        this.channel = channel;
+        this.key = key;
+    }
+
+    ByteBuffer beginFrame(byte type, int maxBody) {
+        if (out.remaining() < 2 + maxBody) {
+            overflowed = true;
+            return null;
+        }
+        out.putShort((short) 0).put(type);
+        return out;
+    }
+
+    void endFrame(int frameStart) {
+        out.putShort(frameStart, (short) (out.position() - frameStart - 2));
+    }
+
+    int position() {
+        return out.position();
+    }
+
+    void sendText(byte type, String text) {
+        byte[] bytes = text.getBytes(StandardCharsets.UTF_8);
+        int start = out.position();
+        ByteBuffer buf = beginFrame(type, 3 + bytes.length);
+        if (buf == null) return;
+        buf.putShort((short) bytes.length).put(bytes);
+        endFrame(start);
+    }
+
+    // Quadro com corpo já codificado (compartilhado entre vários destinatários)
+    void sendFrame(byte type, ByteBuffer body) {
+        int start = out.position();
+        ByteBuffer buf = beginFrame(type, 1 + body.remaining());
+        if (buf == null) return;
+        buf.put(body.duplicate());
+        endFrame(start);
+    }
+
+    boolean hasPendingOutput() {
+        return out.position() > 0;
+    }
+
+    /**
+     * Envia o que for possível sem bloquear; true se o buffer esvaziou.
+     */
+    boolean flush() throws IOException {
+        out.flip();
+        try {
+            channel.write(out);
+        } finally {
+            out.compact();
+        }
+        return out.position() == 0;
+    }
+}
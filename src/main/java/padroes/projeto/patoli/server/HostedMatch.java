@@ -0,0 +1,229 @@
+package padroes.projeto.patoli.server;
+
+import padroes.projeto.patoli.controller.GameController;
+import padroes.projeto.patoli.controller.viewmodel.enums.GameEventVMEnum;
+import padroes.projeto.patoli.controller.viewmodel.enums.PlayerColorVMEnum;
+import padroes.projeto.patoli.model.game.Game;
+import padroes.projeto.patoli.model.game.GameState;
+import padroes.projeto.patoli.model.game.GameStateDelta;
+import padroes.projeto.patoli.view.frame.GameView;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Partida hospedada no servidor: o Game e seu GameController, com a rede no
+ * papel de View. Cada refresh do controller vira um quadro STATE para os dois jogadores
+ * e um único DELTA, codificado uma vez e copiado para todos os espectadores.
+ */
+final class HostedMatch implements GameView {
+    // partida + versão + GameState + eventos
+    private static final int STATE_BODY = 1 + Integer.BYTES + 3 * Long.BYTES + Integer.BYTES;
+    // partida + versão + GameState
+    private static final int KEYFRAME_BODY = 1 + Integer.BYTES + 3 * Long.BYTES;
+    // varint de 64 bits ocupa até 10 bytes
+    private static final int MAX_VARINT = 10;
+
+    final int id;
+    private final Game game;
+    private final GameController controller;
+    private final ClientConnection black;
+    private final ClientConnection white;
+    private final MatchServer server;
+
+    // Autor do comando em andamento (destino das mensagens do controller)
+    private ClientConnection actor;
+    private int events;
+
+    private final List<ClientConnection> spectators = new ArrayList<>();
+    // Última posição transmitida: base da próxima diferença
+    private GameState broadcast;
+    private long broadcastVersion;
+    private int deltasSinceKeyframe;
+    private final ByteBuffer delta = ByteBuffer.allocate(MAX_VARINT + GameStateDelta.MAX_BYTES);
+
+    HostedMatch(int id, ClientConnection black, ClientConnection white, MatchServer server) {
+        this.id = id;
+        this.black = black;
+        this.white = white;
+        this.server = server;
+        this.game = new Game(black.name, white.name);
+        this.controller = new GameController(game);
+        join(black, PlayerColorVMEnum.BLACK);
+        join(white, PlayerColorVMEnum.WHITE);
+        controller.setView(this);
+    }
+
+    private void join(ClientConnection conn, PlayerColorVMEnum color) {
+        conn.match = this;
+        conn.color = color;
+        int start = conn.position();
+        ByteBuffer buf = conn.beginFrame(MatchProtocol.JOINED, 6);
+        if (buf == null) return;
+        buf.putInt(id).put((byte) color.ordinal());
+        conn.endFrame(start);
+        server.markDirty(conn);
+    }
+
+    /**
+     * Comando de um dos jogadores; apenas o jogador da vez pode agir.
+     */
+    void handle(ClientConnection conn, byte type, ByteBuffer body) {
+        if (isOver()) {
+            server.sendError(conn, "Partida encerrada.");
+            return;
+        }
+        if (conn.color != controller.getCurrentPlayerColor()) {
+            server.sendError(conn, "Não é a sua vez.");
+            return;
+        }
+        actor = conn;
+        try {
+            switch (type) {
+                case MatchProtocol.ROLL -> controller.onRoll();
+                case MatchProtocol.ENTER -> controller.onEnterNewPiece();
+                case MatchProtocol.PASS -> controller.onPassIfRequired();
+                case MatchProtocol.MOVE -> {
+                    if (body.hasRemaining()) controller.onPieceSelected(body.get());
+                    else server.sendError(conn, "MOVE sem id de peça.");
+                }
+                default -> server.sendError(conn, "Comando desconhecido: " + type);
+            }
+        } finally {
+            actor = null;
+        }
+    }
+
+    boolean isOver() {
+        return controller.isGameOver();
+    }
+
+    /**
+     * Retira o jogador. Se a partida ainda não acabou, ela é encerrada e o oponente
+     * avisado. Retorna true quando não resta nenhum jogador.
+     */
+    boolean leave(ClientConnection leaving) {
+        leaving.match = null;
+        ClientConnection other = leaving == black ? white : black;
+        if (other.match == this && !isOver()) {
+            other.match = null;
+            other.sendText(MatchProtocol.MESSAGE, "Oponente saiu. Partida encerrada.");
+            server.markDirty(other);
+        }
+        return other.match != this;
+    }
+
+    /**
+     * Adiciona um espectador; ele recebe um KEYFRAME e, depois, as diferenças.
+     */
+    void watch(ClientConnection conn) {
+        conn.watching = this;
+        spectators.add(conn);
+        sendKeyframe(conn);
+    }
+
+    void unwatch(ClientConnection conn) {
+        conn.watching = null;
+        spectators.remove(conn);
+    }
+
+    // Espectador pediu ressincronização
+    void sync(ClientConnection conn) {
+        sendKeyframe(conn);
+    }
+
+    int getSpectatorCount() {
+        return spectators.size();
+    }
+
+    // Partida removida do servidor: libera os espectadores
+    void closeSpectators() {
+        for (ClientConnection conn : spectators) {
+            conn.watching = null;
+            conn.sendText(MatchProtocol.MESSAGE, "Partida encerrada.");
+            server.markDirty(conn);
+        }
+        spectators.clear();
+    }
+
+    @Override
+    public void refresh() {
+        GameState state = game.captureState();
+        sendState(black, state);
+        sendState(white, state);
+        events = 0;
+        broadcastToSpectators(state);
+    }
+
+    private void broadcastToSpectators(GameState state) {
+        long version = game.getVersion();
+        GameState base = broadcast;
+        long baseVersion = broadcastVersion;
+        broadcast = state;
+        broadcastVersion = version;
+        if (spectators.isEmpty() || base == null || version == baseVersion) return;
+
+        if (++deltasSinceKeyframe >= MatchProtocol.KEYFRAME_INTERVAL) {
+            deltasSinceKeyframe = 0;
+            for (ClientConnection conn : spectators) sendKeyframe(conn);
+            return;
+        }
+        delta.clear();
+        putVarint(delta, version - baseVersion);
+        GameStateDelta.encode(base, state, delta);
+        delta.flip();
+        for (ClientConnection conn : spectators) {
+            conn.sendFrame(MatchProtocol.DELTA, delta);
+            server.markDirty(conn);
+        }
+    }
+
+    private void sendKeyframe(ClientConnection conn) {
+        if (broadcast == null) return;
+        int start = conn.position();
+        ByteBuffer buf = conn.beginFrame(MatchProtocol.KEYFRAME, KEYFRAME_BODY);
+        if (buf == null) return;
+        buf.putInt(id).putLong(broadcastVersion).putLong(broadcast.pieces()).putLong(broadcast.meta());
+        conn.endFrame(start);
+        server.markDirty(conn);
+    }
+
+    private static void putVarint(ByteBuffer buf, long value) {
+        while ((value & ~0x7fL) != 0) {
+            buf.put((byte) ((value & 0x7f) | 0x80));
+            value >>>= 7;
+        }
+        buf.put((byte) value);
+    }
+
+    private void sendState(ClientConnection conn, GameState state) {
+        if (conn.match != this) return;
+        int start = conn.position();
+        ByteBuffer buf = conn.beginFrame(MatchProtocol.STATE, STATE_BODY);
+        if (buf == null) return;
+        buf.putInt(id).putLong(game.getVersion()).putLong(state.pieces()).putLong(state.meta()).putInt(events);
+        conn.endFrame(start);
+        server.markDirty(conn);
+    }
+
+    @Override
+    public void showMessage(String message) {
+        // Fim de partida vai para os dois; o resto, para quem enviou o comando
+        if (actor == null || isOver()) {
+            if (black.match == this) black.sendText(MatchProtocol.MESSAGE, message);
+            if (white.match == this) white.sendText(MatchProtocol.MESSAGE, message);
+            server.markDirty(black);
+            server.markDirty(white);
+        } else {
+            actor.sendText(MatchProtocol.MESSAGE, message);
+            server.markDirty(actor);
+        }
+    }
+
+    @Override
+    public void onEvents(Set<GameEventVMEnum> batch) {
+        for (GameEventVMEnum e : batch) events |= 1 << e.ordinal();
+    }
+}
@@ -0,0 +1,53 @@
+package padroes.projeto.patoli.server;
+
+/**
+ * Protocolo binário do MatchServer (big-endian).
+ *
+ * Quadro: tamanho do corpo (u16) + corpo; o corpo começa com o código da mensagem (byte).
+ * Textos: u16 tamanho + UTF-8.
+ *
+ * Cliente -> servidor:
+ *   JOIN  nome (texto)  entra na fila; pareado com o próximo jogador que entrar
+ *   ROLL | ENTER | PASS
+ *   MOVE  id da peça (byte)
+ *   WATCH partida (int)  assiste à partida como espectador
+ *   SYNC                 espectador pede um novo KEYFRAME
+ *
+ * Servidor -> cliente:
+ *   JOINED   partida (int), cor (byte: 0 = BLACK, 1 = WHITE)
+ *   STATE    partida (int), versão (long), GameState.pieces (long), GameState.meta (long),
+ *            eventos do lote (int, bit = GameEventVMEnum.ordinal())
+ *   MESSAGE  texto (mensagens do GameController)
+ *   ERROR    texto (comando recusado pelo servidor)
+ *
+ * Servidor -> espectador:
+ *   KEYFRAME partida (int), versão (long), GameState.pieces (long), GameState.meta (long);
+ *            enviado ao entrar, a pedido (SYNC) e a cada KEYFRAME_INTERVAL diferenças
+ *   DELTA    avanço de versão (varint) + GameStateDelta sobre a posição anterior
+ */
+public final class MatchProtocol {
+    public static final int MAX_FRAME = 1024;
+
+    // Cliente -> servidor
+    public static final byte JOIN = 0x01;
+    public static final byte ROLL = 0x02;
+    public static final byte ENTER = 0x03;
+    public static final byte MOVE = 0x04;
+    public static final byte PASS = 0x05;
+    public static final byte WATCH = 0x06;
+    public static final byte SYNC = 0x07;
+
+    // Servidor -> cliente
+    public static final byte JOINED = (byte) 0x81;
+    public static final byte STATE = (byte) 0x82;
+    public static final byte MESSAGE = (byte) 0x83;
+    public static final byte ERROR = (byte) 0x84;
+    public static final byte KEYFRAME = (byte) 0x85;
+    public static final byte DELTA = (byte) 0x86;
+
+    // Diferenças entre dois KEYFRAMEs consecutivos enviados a todos os espectadores
+    public static final int KEYFRAME_INTERVAL = 64;
+
+    private MatchProtocol() {
+    }
+}
@@ -0,0 +1,253 @@
+package padroes.projeto.patoli.server;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.InetSocketAddress;
+import java.net.StandardSocketOptions;
+import java.nio.ByteBuffer;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Servidor de partidas sobre NIO não bloqueante (protocolo em MatchProtocol).
+ *
+ * Uma única thread de seletor aceita conexões, lê os quadros, aplica os comandos
+ * nas partidas (via GameController) e envia as respostas. As respostas de um ciclo
+ * do seletor são acumuladas por conexão e enviadas juntas no fim do ciclo; um
+ * cliente que não acompanha o envio (buffer de saída cheio) é desconectado.
+ */
+public class MatchServer implements Runnable, AutoCloseable {
+    public static final int DEFAULT_PORT = 7070;
+
+    private final Selector selector;
+    private final ServerSocketChannel server;
+    private final ArrayDeque<ClientConnection> dirty = new ArrayDeque<>();
+    private final List<ClientConnection> closing = new ArrayList<>();
+    // Partidas com ao menos um jogador, por id (para WATCH)
+    private final Map<Integer, HostedMatch> matches = new HashMap<>();
+
+    private ClientConnection waiting;
+    private int nextMatchId = 1;
+    private int connections;
+    private int activeMatches;
+    private volatile boolean running = true;
+
+    public MatchServer(InetSocketAddress address) throws IOException {
+        selector = Selector.open();
+        server = ServerSocketChannel.open();
+        server.bind(address, 1024);
+        server.configureBlocking(false);
+        server.register(selector, SelectionKey.OP_ACCEPT);
+    }
+
+    public int getPort() {
+        return server.socket().getLocalPort();
+    }
+
+    // Métricas (leitura aproximada fora da thread do seletor)
+    public int getConnectionCount() { return connections; }
+    public int getActiveMatchCount() { return activeMatches; }
+
+    @Override
+    public void run() {
+        try {
+            while (running) {
+                selector.select();
+                for (SelectionKey key : selector.selectedKeys()) {
+                    if (!key.isValid()) continue;
+                    if (key.isAcceptable()) accept();
+                    else {
+                        ClientConnection conn = (ClientConnection) key.attachment();
+                        if (key.isReadable()) read(conn);
+                        if (key.isValid() && key.isWritable()) markDirty(conn);
+                    }
+                }
+                selector.selectedKeys().clear();
+                flushDirty();
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } finally {
+            closeAll();
+        }
+    }
+
+    private void accept() throws IOException {
+        SocketChannel channel;
+        while ((channel = server.accept()) != null) {
+            channel.configureBlocking(false);
+            channel.setOption(StandardSocketOptions.TCP_NODELAY, true);
+            SelectionKey key = channel.register(selector, SelectionKey.OP_READ);
+            key.attach(new ClientConnection(channel, key));
+            connections++;
+        }
+    }
+
+    private void read(ClientConnection conn) {
+        int n;
+        try {
+            n = conn.channel.read(conn.in);
+        } catch (IOException e) {
+            n = -1;
+        }
+        if (n < 0) {
+            disconnect(conn);
+            return;
+        }
+        ByteBuffer in = conn.in.flip();
+        while (in.remaining() >= 2) {
+            int length = in.getShort(in.position()) & 0xffff;
+            if (length == 0 || length > MatchProtocol.MAX_FRAME) {
+                disconnect(conn);
+                return;
+            }
+            if (in.remaining() < 2 + length) break;
+            int end = in.position() + 2 + length;
+            ByteBuffer body = in.slice(in.position() + 3, length - 1);
+            byte type = in.get(in.position() + 2);
+            in.position(end);
+            dispatch(conn, type, body);
+            if (!conn.channel.isOpen()) return;
+        }
+        in.compact();
+    }
+
+    private void dispatch(ClientConnection conn, byte type, ByteBuffer body) {
+        if (type == MatchProtocol.JOIN) {
+            join(conn, body);
+        } else if (type == MatchProtocol.WATCH) {
+            watch(conn, body);
+        } else if (type == MatchProtocol.SYNC && conn.watching != null) {
+            conn.watching.sync(conn);
+        } else if (conn.match != null) {
+            conn.match.handle(conn, type, body);
+        } else {
+            sendError(conn, "Entre numa partida (JOIN) antes de jogar.");
+        }
+    }
+
+    private void join(ClientConnection conn, ByteBuffer body) {
+        if (conn.waiting || (conn.match != null && !conn.match.isOver())) {
+            sendError(conn, "Já está numa partida ou na fila.");
+            return;
+        }
+        leaveMatch(conn);
+        if (conn.watching != null) conn.watching.unwatch(conn);
+        if (body.remaining() < 2 || body.remaining() < 2 + (body.getShort(body.position()) & 0xffff)) {
+            sendError(conn, "JOIN sem nome.");
+            return;
+        }
+        byte[] name = new byte[body.getShort() & 0xffff];
+        body.get(name);
+        conn.name = name.length == 0 ? "Jogador" : new String(name, StandardCharsets.UTF_8);
+        if (waiting == null) {
+            waiting = conn;
+            conn.waiting = true;
+            return;
+        }
+        ClientConnection black = waiting;
+        waiting = null;
+        black.waiting = false;
+        HostedMatch match = new HostedMatch(nextMatchId++, black, conn, this);
+        matches.put(match.id, match);
+        activeMatches++;
+    }
+
+    private void watch(ClientConnection conn, ByteBuffer body) {
+        if (conn.waiting || conn.match != null) {
+            sendError(conn, "Jogadores não podem assistir a outra partida.");
+            return;
+        }
+        HostedMatch match = body.remaining() >= Integer.BYTES ? matches.get(body.getInt()) : null;
+        if (match == null) {
+            sendError(conn, "Partida inexistente.");
+            return;
+        }
+        if (conn.watching != null) conn.watching.unwatch(conn);
+        match.watch(conn);
+    }
+
+    // Retira o jogador da partida; a partida sai do servidor quando fica sem jogadores
+    private void leaveMatch(ClientConnection conn) {
+        HostedMatch match = conn.match;
+        if (match == null || !match.leave(conn)) return;
+        matches.remove(match.id);
+        match.closeSpectators();
+        activeMatches--;
+    }
+
+    void sendError(ClientConnection conn, String message) {
+        conn.sendText(MatchProtocol.ERROR, message);
+        markDirty(conn);
+    }
+
+    void markDirty(ClientConnection conn) {
+        if (conn.dirty || !conn.channel.isOpen()) return;
+        conn.dirty = true;
+        dirty.add(conn);
+    }
+
+    // Envia as respostas acumuladas no ciclo; o que não couber no socket espera OP_WRITE
+    private void flushDirty() {
+        ClientConnection conn;
+        while ((conn = dirty.poll()) != null) {
+            conn.dirty = false;
+            if (!conn.channel.isOpen()) continue;
+            if (conn.overflowed) {
+                closing.add(conn);
+                continue;
+            }
+            try {
+                boolean done = conn.flush();
+                conn.key.interestOps(done ? SelectionKey.OP_READ : SelectionKey.OP_READ | SelectionKey.OP_WRITE);
+            } catch (IOException e) {
+                closing.add(conn);
+            }
+        }
+        for (ClientConnection c : closing) disconnect(c);
+        closing.clear();
+    }
+
+    private void disconnect(ClientConnection conn) {
+        if (!conn.channel.isOpen()) return;
+        if (waiting == conn) waiting = null;
+        leaveMatch(conn);
+        if (conn.watching != null) conn.watching.unwatch(conn);
+        conn.key.cancel();
+        try {
+            conn.channel.close();
+        } catch (IOException ignored) {
+            // já desconectado
+        }
+        connections--;
+    }
+
+    @Override
+    public void close() {
+        running = false;
+        selector.wakeup();
+    }
+
+    private void closeAll() {
+        for (SelectionKey key : selector.keys()) {
+            try {
+                key.channel().close();
+            } catch (IOException ignored) {
+                // encerrando
+            }
+        }
+        try {
+            selector.close();
+        } catch (IOException ignored) {
+            // encerrando
+        }
+    }
+}
@@ -0,0 +1,78 @@
+package padroes.projeto.patoli.simulation;
+
+import padroes.projeto.patoli.model.game.SplitMix64;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.function.Supplier;
+
+/**
+ * Executa N partidas headless em paralelo (ForkJoin), uma semente por partida.
+ * A semente de cada partida deriva apenas de (semente base, índice), então o
+ * resultado agregado não depende do escalonamento entre threads.
+ */
+public class BatchSimulator {
+    // Partidas por tarefa folha (divide o lote até este tamanho)
+    private static final int LEAF_SIZE = 1_024;
+
+    private final Supplier<HeadlessGameRunner> runnerFactory;
+    private final int threads;
+
+    public BatchSimulator(Supplier<HeadlessGameRunner> runnerFactory) {
+        this(runnerFactory, Runtime.getRuntime().availableProcessors());
+    }
+
+    public BatchSimulator(Supplier<HeadlessGameRunner> runnerFactory, int threads) {
+        this.runnerFactory = runnerFactory;
+        this.threads = Math.max(1, threads);
+    }
+
+    public SimulationReport run(long games, long baseSeed) {
+        ForkJoinPool pool = new ForkJoinPool(threads);
+        try {
+            long t0 = System.nanoTime();
+            SimulationStats stats = pool.invoke(new Batch(baseSeed, 0, games));
+            long elapsed = System.nanoTime() - t0;
+            return new SimulationReport(stats, elapsed, threads);
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    // SplitMix64: espalha (semente base + índice) em sementes independentes
+    static long seedFor(long baseSeed, long index) {
+        return SplitMix64.mix64(baseSeed + (index + 1) * SplitMix64.GOLDEN_GAMMA);
+    }
+
+    private class Batch extends RecursiveTask<SimulationStats> {
+        private static final long serialVersionUID = 1L;
+
+        private final long baseSeed;
+        private final long from;
+        private final long to;
+
+        Batch(long baseSeed, long from, long to) {
+            this.baseSeed = baseSeed;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected SimulationStats compute() {
+            if (to - from <= LEAF_SIZE) {
+                HeadlessGameRunner runner = runnerFactory.get();
+                SimulationStats stats = new SimulationStats(runner.getMaxTurns());
+                for (long i = from; i < to; i++) {
+                    runner.play(seedFor(baseSeed, i), stats);
+                }
+                return stats;
+            }
+            long mid = (from + to) >>> 1;
+            Batch left = new Batch(baseSeed, from, mid);
+            Batch right = new Batch(baseSeed, mid, to);
+            left.fork();
+            SimulationStats r = right.compute();
+            return left.join().merge(r);
+        }
+    }
+}
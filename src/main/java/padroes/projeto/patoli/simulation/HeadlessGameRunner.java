@@ -0,0 +1,59 @@
+package padroes.projeto.patoli.simulation;
+
+import padroes.projeto.patoli.model.board.Player;
+import padroes.projeto.patoli.model.game.CoinDice;
+import padroes.projeto.patoli.model.game.Game;
+
+import java.util.SplittableRandom;
+
+/**
+ * Conduz uma partida completa sem Swing nem Controller,
+ * seguindo o mesmo fluxo de turno do GameController (rolar, jogar ou passar, próximo turno).
+ */
+public class HeadlessGameRunner {
+    // Turnos sem vencedor após este limite contam como partida inacabada
+    public static final int DEFAULT_MAX_TURNS = 10_000;
+
+    private final MoveStrategy blackStrategy;
+    private final MoveStrategy whiteStrategy;
+    private final int maxTurns;
+
+    public HeadlessGameRunner(MoveStrategy blackStrategy, MoveStrategy whiteStrategy) {
+        this(blackStrategy, whiteStrategy, DEFAULT_MAX_TURNS);
+    }
+
+    public HeadlessGameRunner(MoveStrategy blackStrategy, MoveStrategy whiteStrategy, int maxTurns) {
+        this.blackStrategy = blackStrategy;
+        this.whiteStrategy = whiteStrategy;
+        this.maxTurns = maxTurns;
+    }
+
+    public int getMaxTurns() { return maxTurns; }
+
+    /**
+     * Joga uma partida determinística a partir da semente e acumula o resultado em 'stats'.
+     */
+    public void play(long seed, SimulationStats stats) {
+        SplittableRandom rng = new SplittableRandom(seed);
+        Game game = new Game("Bot Preto", "Bot Branco", new CoinDice(rng.nextLong()));
+
+        int turns = 0;
+        while (!game.isGameOver() && turns < maxTurns) {
+            int roll = game.roll();
+            if (roll > 0 && !game.mustPass()) {
+                MoveStrategy strategy = game.getCurrent() == game.getBlack() ? blackStrategy : whiteStrategy;
+                int move = strategy.chooseMove(game, rng);
+                if (!game.playMove(move)) throw new IllegalStateException("Jogada inválida escolhida pela estratégia: " + move);
+            }
+            game.nextTurnIfNeeded();
+            turns++;
+        }
+
+        if (!game.isGameOver()) {
+            stats.recordUnfinished(turns);
+            return;
+        }
+        Player winner = game.getWinner();
+        stats.record(winner == null ? null : winner.getColor(), turns);
+    }
+}
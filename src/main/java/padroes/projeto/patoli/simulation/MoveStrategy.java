@@ -0,0 +1,20 @@
+package padroes.projeto.patoli.simulation;
+
+import padroes.projeto.patoli.model.game.Game;
+
+import java.util.random.RandomGenerator;
+
+/**
+ * Estratégia de escolha de jogada para partidas headless (bots).
+ * Só é consultada quando o jogador da vez tem ao menos uma jogada válida.
+ */
+@FunctionalInterface
+public interface MoveStrategy {
+    // Jogada especial: inserir nova peça na START (rolagem 1)
+    int ENTER = Game.MOVE_ENTER;
+
+    /**
+     * Retorna o id da peça do jogador atual a ser movida, ou ENTER para inserir nova peça.
+     */
+    int chooseMove(Game game, RandomGenerator rng);
+}
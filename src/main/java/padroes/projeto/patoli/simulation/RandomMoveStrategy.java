@@ -0,0 +1,22 @@
+package padroes.projeto.patoli.simulation;
+
+import padroes.projeto.patoli.model.game.Game;
+
+import java.util.random.RandomGenerator;
+
+/**
+ * Escolhe uniformemente entre as jogadas válidas (peças móveis + inserir peça).
+ */
+public class RandomMoveStrategy implements MoveStrategy {
+
+    @Override
+    public int chooseMove(Game game, RandomGenerator rng) {
+        int mask = game.legalMoveMask();
+        // Sorteia o k-ésimo bit ligado da máscara
+        for (int k = rng.nextInt(Integer.bitCount(mask)); k > 0; k--) {
+            mask &= mask - 1;
+        }
+        int bit = Integer.lowestOneBit(mask);
+        return bit == Game.ENTER_BIT ? ENTER : Integer.numberOfTrailingZeros(bit);
+    }
+}
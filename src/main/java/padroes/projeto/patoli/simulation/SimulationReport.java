@@ -0,0 +1,45 @@
+package padroes.projeto.patoli.simulation;
+
+/**
+ * Resultado consolidado de um lote de simulações.
+ */
+public class SimulationReport {
+    private final SimulationStats stats;
+    private final long elapsedNanos;
+    private final int threads;
+
+    public SimulationReport(SimulationStats stats, long elapsedNanos, int threads) {
+        this.stats = stats;
+        this.elapsedNanos = elapsedNanos;
+        this.threads = threads;
+    }
+
+    public SimulationStats getStats() { return stats; }
+    public long getElapsedNanos() { return elapsedNanos; }
+    public int getThreads() { return threads; }
+
+    public double gamesPerSecond() {
+        return elapsedNanos == 0 ? 0 : stats.getGames() * 1e9 / elapsedNanos;
+    }
+
+    public double winRate(long wins) {
+        return stats.getGames() == 0 ? 0 : 100.0 * wins / stats.getGames();
+    }
+
+    public String format() {
+        StringBuilder sb = new StringBuilder();
+        sb.append(String.format("Partidas: %d em %.3f s (%d threads)%n", stats.getGames(), elapsedNanos / 1e9, threads));
+        sb.append(String.format("Vazão: %.0f partidas/s (%.0f partidas/min)%n", gamesPerSecond(), gamesPerSecond() * 60));
+        sb.append(String.format("Duração (turnos): média %.2f | p50 %d | p90 %d | p99 %d%n",
+                stats.meanLength(), stats.percentileLength(50), stats.percentileLength(90), stats.percentileLength(99)));
+        sb.append(String.format("Vitórias: BLACK %.2f%% | WHITE %.2f%% | empates %.2f%% | inacabadas %.2f%%%n",
+                winRate(stats.getBlackWins()), winRate(stats.getWhiteWins()),
+                winRate(stats.getDraws()), winRate(stats.getUnfinished())));
+        return sb.toString();
+    }
+
+    @Override
+    public String toString() {
+        return format();
+    }
+}
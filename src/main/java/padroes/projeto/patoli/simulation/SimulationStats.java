@@ -0,0 +1,76 @@
+package padroes.projeto.patoli.simulation;
+
+import padroes.projeto.patoli.model.board.enums.PlayerColorEnum;
+
+/**
+ * Acumulador (não thread-safe) de resultados de partidas.
+ * Cada worker mantém o seu e os parciais são combinados com merge().
+ */
+public class SimulationStats {
+    private final long[] lengthHistogram;
+    private long games;
+    private long blackWins;
+    private long whiteWins;
+    private long draws;
+    private long unfinished;
+    private long totalTurns;
+
+    public SimulationStats(int maxTurns) {
+        this.lengthHistogram = new long[maxTurns + 1];
+    }
+
+    public void record(PlayerColorEnum winner, int turns) {
+        if (winner == PlayerColorEnum.BLACK) blackWins++;
+        else if (winner == PlayerColorEnum.WHITE) whiteWins++;
+        else draws++;
+        count(turns);
+    }
+
+    public void recordUnfinished(int turns) {
+        unfinished++;
+        count(turns);
+    }
+
+    private void count(int turns) {
+        games++;
+        totalTurns += turns;
+        lengthHistogram[Math.min(turns, lengthHistogram.length - 1)]++;
+    }
+
+    public SimulationStats merge(SimulationStats other) {
+        games += other.games;
+        blackWins += other.blackWins;
+        whiteWins += other.whiteWins;
+        draws += other.draws;
+        unfinished += other.unfinished;
+        totalTurns += other.totalTurns;
+        for (int i = 0; i < lengthHistogram.length; i++) {
+            lengthHistogram[i] += other.lengthHistogram[i];
+        }
+        return this;
+    }
+
+    public long getGames() { return games; }
+    public long getBlackWins() { return blackWins; }
+    public long getWhiteWins() { return whiteWins; }
+    public long getDraws() { return draws; }
+    public long getUnfinished() { return unfinished; }
+
+    public double meanLength() {
+        return games == 0 ? 0 : (double) totalTurns / games;
+    }
+
+    /**
+     * Duração (em turnos) no percentil p (0..100), pelo histograma.
+     */
+    public int percentileLength(double p) {
+        if (games == 0) return 0;
+        long target = (long) Math.ceil(games * p / 100.0);
+        long seen = 0;
+        for (int i = 0; i < lengthHistogram.length; i++) {
+            seen += lengthHistogram[i];
+            if (seen >= Math.max(1, target)) return i;
+        }
+        return lengthHistogram.length - 1;
+    }
+}
@@ -1,5 +1,9 @@
 package padroes.projeto.patoli.view.frame;
 
+import padroes.projeto.patoli.controller.viewmodel.enums.GameEventVMEnum;
+
+import java.util.Set;
+
 public interface GameView {
     // Solicita atualização completa da interface
     void refresh();
@@ -7,6 +11,6 @@ public interface GameView {
     // Exibe uma mensagem informativa/alerta ao usuário
     void showMessage(String message);
 
-    // Notificação de evento do jogo (para banners/animações)
-    void onEvent(String reason);
+    // Eventos coalescidos de um comando (para banners/animações); o conjunto é reutilizado
+    void onEvents(Set<GameEventVMEnum> events);
 }
\ No newline at end of file
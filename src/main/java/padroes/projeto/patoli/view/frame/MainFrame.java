@@ -1,6 +1,7 @@
 package padroes.projeto.patoli.view.frame;
 
 import padroes.projeto.patoli.controller.GameController;
+import padroes.projeto.patoli.controller.viewmodel.enums.GameEventVMEnum;
 import padroes.projeto.patoli.controller.viewmodel.enums.PlayerColorVMEnum;
 import padroes.projeto.patoli.view.panel.ActionBarPanel;
 import padroes.projeto.patoli.view.panel.BoardPanel;
@@ -10,6 +11,7 @@ import padroes.projeto.patoli.view.frame.GameView;
 
 import javax.swing.*;
 import java.awt.*;
+import java.util.Set;
 
 public class MainFrame extends JFrame implements GameView {
     private final GameController controller;
@@ -84,9 +86,8 @@ public class MainFrame extends JFrame implements GameView {
     }
 
     @Override
-    public void onEvent(String reason) {
-        // Apenas solicitar refresh (a UI lê estado pelo controller)
-        refresh();
+    public void onEvents(Set<GameEventVMEnum> events) {
+        // Sem banners/animações por ora: o controller já pede um refresh por lote
     }
 
     public void goFullScreen() {
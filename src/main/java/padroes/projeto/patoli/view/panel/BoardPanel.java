@@ -1,7 +1,7 @@
 package padroes.projeto.patoli.view.panel;
 
 import padroes.projeto.patoli.controller.GameController;
-import padroes.projeto.patoli.controller.viewmodel.CellVM;
+import padroes.projeto.patoli.controller.viewmodel.BoardVM;
 import padroes.projeto.patoli.controller.viewmodel.enums.CellTypeVMEnum;
 import padroes.projeto.patoli.controller.viewmodel.enums.PlayerColorVMEnum;
 
@@ -9,8 +9,9 @@ import javax.swing.*;
 import java.awt.*;
 import java.awt.event.MouseAdapter;
 import java.awt.event.MouseEvent;
+import java.awt.geom.AffineTransform;
 import java.awt.geom.RoundRectangle2D;
-import java.util.List;
+import java.awt.image.BufferedImage;
 
 public class BoardPanel extends JPanel {
     private final GameController controller;
@@ -18,6 +19,13 @@ public class BoardPanel extends JPanel {
     private int cellSize = 56;
     private int margin = 20;
 
+    // Camada estática (fundo, grade, moldura e células) pré-renderizada; refeita só ao mudar de tamanho/escala
+    private transient BufferedImage staticLayer;
+    private int layerWidth;
+    private int layerHeight;
+    private double layerScaleX;
+    private double layerScaleY;
+
     public BoardPanel(GameController controller) {
         this.controller = controller;
 
@@ -53,31 +61,60 @@ public class BoardPanel extends JPanel {
     @Override
     protected void paintComponent(Graphics g) {
         super.paintComponent(g);
-        List<CellVM> cells = controller.getCells();
+        BoardVM board = controller.getBoardVM();
 
         Graphics2D g2 = (Graphics2D) g.create();
         g2.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
 
-        drawBackground(g2);
-        drawGrid(g2, controller.getRows(), controller.getCols());
-        drawBoardShadow(g2, controller.getRows(), controller.getCols());
-        drawBoardFrame(g2, controller.getRows(), controller.getCols());
-
-        // Células
-        for (CellVM cell : cells) {
-            drawCell(g2, cell);
-        }
+        g2.drawImage(staticLayer(g2, board), 0, 0, getWidth(), getHeight(), null);
 
         // Peças (desenha por ocupação das células para manter z-order)
-        for (CellVM cell : cells) {
-            if (cell.occupied) {
-                drawPiece(g2, cell);
+        for (int i = 0; i < board.cellCount(); i++) {
+            if (board.occupied(i)) {
+                drawPiece(g2, board.row(i), board.col(i), board.occupantColor(i), board.occupantId(i));
             }
         }
 
         g2.dispose();
     }
 
+    /**
+     * Camada estática do tamanho atual do painel, na resolução do dispositivo
+     * (escala do Graphics, p. ex. HiDPI). O layout é fixo por controller, então
+     * basta o tamanho e a escala como chave.
+     */
+    private BufferedImage staticLayer(Graphics2D target, BoardVM board) {
+        int w = getWidth(), h = getHeight();
+        AffineTransform t = target.getTransform();
+        double sx = t.getScaleX(), sy = t.getScaleY();
+        if (staticLayer != null && w == layerWidth && h == layerHeight && sx == layerScaleX && sy == layerScaleY) {
+            return staticLayer;
+        }
+        if (staticLayer != null) staticLayer.flush();
+        int pw = Math.max(1, (int) Math.ceil(w * sx));
+        int ph = Math.max(1, (int) Math.ceil(h * sy));
+        staticLayer = target.getDeviceConfiguration().createCompatibleImage(pw, ph, Transparency.OPAQUE);
+        layerWidth = w;
+        layerHeight = h;
+        layerScaleX = sx;
+        layerScaleY = sy;
+
+        Graphics2D g2 = staticLayer.createGraphics();
+        g2.setColor(getBackground());
+        g2.fillRect(0, 0, pw, ph);
+        g2.scale(sx, sy);
+        g2.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+        drawBackground(g2);
+        drawGrid(g2, controller.getRows(), controller.getCols());
+        drawBoardShadow(g2, controller.getRows(), controller.getCols());
+        drawBoardFrame(g2, controller.getRows(), controller.getCols());
+        for (int i = 0; i < board.cellCount(); i++) {
+            drawCell(g2, board.row(i), board.col(i), board.type(i));
+        }
+        g2.dispose();
+        return staticLayer;
+    }
+
     private void drawGrid(Graphics2D g2, int rows, int cols) {
         g2.setColor(new Color(255, 255, 255, 18));
         int w = cols * cellSize, h = rows * cellSize;
@@ -159,14 +196,14 @@ public class BoardPanel extends JPanel {
         g2.draw(new RoundRectangle2D.Float(x + 1, y + 1, boardW - 2, boardH - 2, arcInner - 4, arcInner - 4));
     }
 
-    private void drawCell(Graphics2D g2, CellVM cell) {
-        int x = margin + cell.col * cellSize;
-        int y = margin + cell.row * cellSize;
+    private void drawCell(Graphics2D g2, int row, int col, CellTypeVMEnum type) {
+        int x = margin + col * cellSize;
+        int y = margin + row * cellSize;
 
         Color base = new Color(72, 78, 88);
-        if (cell.type == CellTypeVMEnum.START) base = new Color(40, 130, 70);
-        if (cell.type == CellTypeVMEnum.ENDPOINT) base = new Color(170, 55, 55);
-        if (cell.type == CellTypeVMEnum.TRIANGLE_PENALTY) base = new Color(180, 145, 50);
+        if (type == CellTypeVMEnum.START) base = new Color(40, 130, 70);
+        if (type == CellTypeVMEnum.ENDPOINT) base = new Color(170, 55, 55);
+        if (type == CellTypeVMEnum.TRIANGLE_PENALTY) base = new Color(180, 145, 50);
 
         int arc = Math.max(10, cellSize / 4);
         Shape rect = new RoundRectangle2D.Float(x + 3, y + 3, cellSize - 6, cellSize - 6, arc, arc);
@@ -195,7 +232,7 @@ public class BoardPanel extends JPanel {
         }
         g2.setClip(null);
 
-        if (cell.type == CellTypeVMEnum.TRIANGLE_PENALTY) {
+        if (type == CellTypeVMEnum.TRIANGLE_PENALTY) {
             int padding = Math.max(6, cellSize / 6);
             int cx = x + cellSize / 2;
             int topY = y + padding + 4;
@@ -212,7 +249,7 @@ public class BoardPanel extends JPanel {
             g2.drawPolygon(px, py, 3);
         }
 
-        if (cell.type == CellTypeVMEnum.ENDPOINT) {
+        if (type == CellTypeVMEnum.ENDPOINT) {
             int cx = x + cellSize / 2;
             int cy = y + cellSize / 2;
             int outer = Math.max(6, (cellSize - 14) / 2);
@@ -237,12 +274,12 @@ public class BoardPanel extends JPanel {
         }
     }
 
-    private void drawPiece(Graphics2D g2, CellVM cell) {
-        int cx = margin + cell.col * cellSize + cellSize / 2;
-        int cy = margin + cell.row * cellSize + cellSize / 2;
+    private void drawPiece(Graphics2D g2, int row, int col, PlayerColorVMEnum color, int id) {
+        int cx = margin + col * cellSize + cellSize / 2;
+        int cy = margin + row * cellSize + cellSize / 2;
 
         int r = cellSize / 2 - 6;
-        boolean isBlack = (cell.occupantColor == PlayerColorVMEnum.BLACK);
+        boolean isBlack = (color == PlayerColorVMEnum.BLACK);
 
         g2.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
 
@@ -278,7 +315,7 @@ public class BoardPanel extends JPanel {
         g2.setColor(new Color(255, 255, 255, 90));
         g2.fillOval(cx - glossW / 2 - r / 4, cy - glossH / 2 - r / 3, glossW, glossH);
 
-        String label = String.valueOf((cell.occupantId != null ? cell.occupantId : 0) + 1);
+        String label = String.valueOf(id + 1);
         g2.setFont(g2.getFont().deriveFont(Font.BOLD, Math.max(12f, cellSize / 3.2f)));
         FontMetrics fm = g2.getFontMetrics();
 
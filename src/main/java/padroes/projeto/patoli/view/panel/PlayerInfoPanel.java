@@ -1,12 +1,11 @@
 package padroes.projeto.patoli.view.panel;
 
 import padroes.projeto.patoli.controller.GameController;
-import padroes.projeto.patoli.controller.viewmodel.PieceVM;
+import padroes.projeto.patoli.controller.viewmodel.BoardVM;
 import padroes.projeto.patoli.controller.viewmodel.enums.PlayerColorVMEnum;
 
 import javax.swing.*;
 import java.awt.*;
-import java.util.List;
 
 public class PlayerInfoPanel extends JPanel {
     private final GameController controller;
@@ -42,6 +41,15 @@ public class PlayerInfoPanel extends JPanel {
         g2.setColor(isCurrent ? new Color(255, 215, 0) : new Color(210, 210, 210));
         g2.drawString(title, 8, 20);
 
+        // Final resolvido pela tabela: probabilidade exata de vitória
+        double winProbability = controller.getEndgameWinProbability(color);
+        if (!Double.isNaN(winProbability)) {
+            String odds = String.format("%.0f%%", winProbability * 100);
+            g2.setFont(getFont().deriveFont(Font.BOLD, 13f));
+            g2.setColor(new Color(120, 200, 140));
+            g2.drawString(odds, getWidth() - 8 - g2.getFontMetrics().stringWidth(odds), 20);
+        }
+
         int y = 36;
         g2.setColor(new Color(70, 70, 70));
         g2.drawLine(8, y, getWidth() - 8, y);
@@ -59,22 +67,22 @@ public class PlayerInfoPanel extends JPanel {
         g2.drawLine(8, y, getWidth() - 8, y);
         y += 14;
 
-        List<PieceVM> reserved = controller.getReservedPieces(color);
+        BoardVM board = controller.getBoardVM();
+        int reserved = board.reservedCount(color);
         g2.setColor(new Color(210, 210, 210));
-        g2.drawString("Reservadas: " + reserved.size(), 8, y);
+        g2.drawString("Reservadas: " + reserved, 8, y);
         y += 8;
-        y = drawMiniPieces(g2, 8, y + 6, reserved, color);
+        y = drawMiniPieces(g2, 8, y + 6, board, false);
 
         y += 8;
         g2.setColor(new Color(70, 70, 70));
         g2.drawLine(8, y, getWidth() - 8, y);
         y += 14;
 
-        List<PieceVM> finished = controller.getFinishedPieces(color);
         g2.setColor(new Color(210, 210, 210));
-        g2.drawString("Finalizadas: " + finished.size(), 8, y);
+        g2.drawString("Finalizadas: " + board.finishedCount(color), 8, y);
         y += 8;
-        drawMiniPieces(g2, 8, y + 6, finished, color);
+        drawMiniPieces(g2, 8, y + 6, board, true);
 
         g2.dispose();
     }
@@ -130,12 +138,15 @@ public class PlayerInfoPanel extends JPanel {
         g2.fillOval(x + r / 6, y + r / 6, d, d);
     }
 
-    private int drawMiniPieces(Graphics2D g2, int x, int startY, List<PieceVM> pieces, PlayerColorVMEnum color) {
+    // Peças reservadas ou finalizadas do jogador deste painel
+    private int drawMiniPieces(Graphics2D g2, int x, int startY, BoardVM board, boolean finished) {
         int cx = x, cy = startY;
         int size = 22, gap = 6;
 
-        for (PieceVM pc : pieces) {
-            drawMiniPieceToken(g2, cx, cy, size, color, pc.id);
+        int count = finished ? board.finishedCount(color) : board.reservedCount(color);
+        for (int k = 0; k < count; k++) {
+            int id = finished ? board.finishedId(color, k) : board.reservedId(color, k);
+            drawMiniPieceToken(g2, cx, cy, size, color, id);
             cx += size + gap;
             if ((cx + size) > getWidth()) {
                 cx = x;